@@ -0,0 +1,151 @@
+package com.winteralexander.gdx.csg.benchmark;
+
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.math.Vector3;
+import com.winteralexander.gdx.csg.CSGConfiguration;
+import com.winteralexander.gdx.csg.CSGMesh;
+import com.winteralexander.gdx.csg.CSGMeshGenerator;
+import com.winteralexander.gdx.csg.CSGUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the CSG operations of {@link CSGUtil} on {@link CSGMesh} operands of increasing sizes,
+ * for different shapes and overlaps. Operations copy their operands, so the same operands are
+ * reused by every invocation.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CSGOperationBenchmark {
+	private static final VertexAttributes ATTRIBUTES = new VertexAttributes(VertexAttribute.Position(),
+			VertexAttribute.Normal());
+
+	/**
+	 * Approximate number of triangles of each operand
+	 */
+	@Param({ "100", "1000", "10000", "100000" })
+	public int triangles;
+
+	@Param
+	public Shapes shapes;
+
+	@Param
+	public Overlap overlap;
+
+	@Param({ "false", "true" })
+	public boolean regionClassification;
+
+	private CSGMesh first, second;
+	private CSGConfiguration config;
+
+	@Setup
+	public void setup() {
+		Vector3 offset = new Vector3(overlap.offset, overlap.offset * 0.7f, overlap.offset * 0.3f);
+		first = shapes.first.create(new Vector3(), 1f, triangles);
+		second = shapes.second.create(offset, overlap.size, triangles);
+
+		config = new CSGConfiguration();
+		config.enableRegionClassification = regionClassification;
+		first.setConfig(config);
+		second.setConfig(config);
+	}
+
+	@Benchmark
+	public CSGMesh subtraction() {
+		return CSGUtil.subtraction(first, second, config);
+	}
+
+	@Benchmark
+	public CSGMesh union() {
+		return CSGUtil.union(first, second, config);
+	}
+
+	@Benchmark
+	public CSGMesh intersection() {
+		return CSGUtil.intersection(first, second, config);
+	}
+
+	public enum Shape {
+		BOX {
+			@Override
+			public CSGMesh create(Vector3 center, float size, int triangles) {
+				int divisions = Math.max(1, Math.round((float)Math.sqrt(triangles / 12f)));
+				return CSGMeshGenerator.box(center, size, size, size, divisions, ATTRIBUTES);
+			}
+		},
+		SPHERE {
+			@Override
+			public CSGMesh create(Vector3 center, float size, int triangles) {
+				// a sphere of n segments and n / 2 rings has n * (n - 2) triangles
+				int segments = Math.max(4, 2 * Math.round((1f + (float)Math.sqrt(1f + triangles)) / 2f));
+				return CSGMeshGenerator.sphere(center, size / 2f, segments, segments / 2, ATTRIBUTES);
+			}
+		};
+
+		/**
+		 * @param center center of the shape
+		 * @param size size of the bounds of the shape
+		 * @param triangles approximate number of triangles
+		 * @return mesh of the shape
+		 */
+		public abstract CSGMesh create(Vector3 center, float size, int triangles);
+	}
+
+	public enum Shapes {
+		BOX_BOX(Shape.BOX, Shape.BOX),
+		SPHERE_SPHERE(Shape.SPHERE, Shape.SPHERE),
+		BOX_SPHERE(Shape.BOX, Shape.SPHERE);
+
+		private final Shape first, second;
+
+		Shapes(Shape first, Shape second) {
+			this.first = first;
+			this.second = second;
+		}
+	}
+
+	/**
+	 * Placement of the second operand relative to the first, which is of size 1 at the origin
+	 */
+	public enum Overlap {
+		/**
+		 * Second operand crosses the surface of the first
+		 */
+		PARTIAL(0.5f, 1f),
+		/**
+		 * Second operand is entirely inside the first, without touching its surface
+		 */
+		CONTAINED(0f, 0.5f),
+		/**
+		 * Second operand is away from the first, their bounds do not overlap
+		 */
+		DISJOINT(3f, 1f);
+
+		private final float offset, size;
+
+		Overlap(float offset, float size) {
+			this.offset = offset;
+			this.size = size;
+		}
+	}
+}
@@ -0,0 +1,276 @@
+package com.winteralexander.gdx.csg.benchmark;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.Ray;
+import com.badlogic.gdx.math.collision.Segment;
+import com.winteralexander.gdx.csg.Triangle;
+
+import java.util.Random;
+
+/**
+ * Generates random inputs of the {@link com.winteralexander.gdx.csg.IntersectorPlus} kernels for
+ * each {@link Category} of configuration. Each configuration is built around a first triangle or
+ * segment in the XY plane, then the whole configuration is moved by a random rotation and
+ * translation so that no input is axis aligned.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class IntersectionInputs {
+	private final Random random;
+	private final Matrix4 transform = new Matrix4();
+	private final Vector3 tmp = new Vector3();
+
+	/**
+	 * @param seed seed of the random inputs, the same seed always gives the same inputs
+	 */
+	public IntersectionInputs(long seed) {
+		this.random = new Random(seed);
+	}
+
+	/**
+	 * Sets 2 triangles in the given configuration
+	 * <ul>
+	 *     <li>{@link Category#DISJOINT}: triangles far from each other</li>
+	 *     <li>{@link Category#CROSSING}: second triangle goes through the first</li>
+	 *     <li>{@link Category#COPLANAR}: second triangle is in the plane of the first and overlaps it</li>
+	 *     <li>{@link Category#TOUCHING_EDGE}: triangles share an edge, like neighbours in a mesh</li>
+	 *     <li>{@link Category#DEGENERATE}: second triangle has collinear points and goes through the first</li>
+	 * </ul>
+	 */
+	public void triangles(Category category, Triangle first, Triangle second) {
+		triangle(first, 0.5f, 1f);
+
+		switch(category) {
+			case DISJOINT:
+				triangle(second, 0.5f, 1f);
+				rotate(second);
+				second.add(direction(tmp).scl(range(3f, 5f)));
+				break;
+			case CROSSING:
+				second.set(range(-0.1f, 0.1f), range(-0.1f, 0.1f), range(0.5f, 1f),
+						range(-1f, 1f), range(-1f, 1f), range(-1f, -0.5f),
+						range(-0.1f, 0.1f), range(-0.1f, 0.1f), range(-1f, -0.5f));
+				break;
+			case COPLANAR:
+				triangle(second, 0.25f, 0.5f);
+				second.add(range(-0.2f, 0.2f), range(-0.2f, 0.2f), 0f);
+				break;
+			case TOUCHING_EDGE:
+				neighbour(first, range(-1f, 1f), second);
+				break;
+			case DEGENERATE:
+				degenerate(second);
+				break;
+		}
+		randomizeTransform();
+		transform(first);
+		transform(second);
+	}
+
+	/**
+	 * Sets 2 triangles in the same plane in the given configuration
+	 * <ul>
+	 *     <li>{@link Category#DISJOINT}: triangles far from each other</li>
+	 *     <li>{@link Category#CROSSING}: triangles partially overlap</li>
+	 *     <li>{@link Category#COPLANAR}: triangles are the same, with their points in another order</li>
+	 *     <li>{@link Category#TOUCHING_EDGE}: triangles share an edge, like neighbours in a mesh</li>
+	 *     <li>{@link Category#DEGENERATE}: second triangle has collinear points and goes through the first</li>
+	 * </ul>
+	 */
+	public void coplanarTriangles(Category category, Triangle first, Triangle second) {
+		triangle(first, 0.5f, 1f);
+
+		switch(category) {
+			case DISJOINT:
+				triangle(second, 0.5f, 1f);
+				second.add(planarDirection(tmp).scl(range(2.5f, 4f)));
+				break;
+			case CROSSING:
+				triangle(second, 0.5f, 1f);
+				second.add(planarDirection(tmp).scl(range(0.1f, 0.3f)));
+				break;
+			case COPLANAR:
+				second.set(first.p2, first.p3, first.p1);
+				break;
+			case TOUCHING_EDGE:
+				neighbour(first, 0f, second);
+				break;
+			case DEGENERATE:
+				second.set(range(-1.5f, -1f), range(-0.1f, 0.1f), 0f,
+						0f, 0f, 0f,
+						range(1f, 1.5f), range(-0.1f, 0.1f), 0f);
+				second.p2.set(second.p1).lerp(second.p3, range(0.2f, 0.8f));
+				break;
+		}
+		randomizeTransform();
+		transform(first);
+		transform(second);
+	}
+
+	/**
+	 * Sets a triangle and a ray in the given configuration
+	 * <ul>
+	 *     <li>{@link Category#DISJOINT}: ray passes beside the triangle</li>
+	 *     <li>{@link Category#CROSSING}: ray goes through the inside of the triangle</li>
+	 *     <li>{@link Category#COPLANAR}: ray is in the plane of the triangle and goes through it</li>
+	 *     <li>{@link Category#TOUCHING_EDGE}: ray goes through an edge of the triangle</li>
+	 *     <li>{@link Category#DEGENERATE}: triangle has collinear points and the ray goes through them</li>
+	 * </ul>
+	 */
+	public void triangleRay(Category category, Triangle triangle, Ray ray) {
+		triangle(triangle, 0.5f, 1f);
+
+		switch(category) {
+			case DISJOINT:
+				ray.origin.set(planarDirection(tmp).scl(range(2f, 3f))).add(0f, 0f, 1f);
+				ray.direction.set(range(-0.2f, 0.2f), range(-0.2f, 0.2f), -1f);
+				break;
+			case CROSSING:
+				ray.origin.set(range(-0.1f, 0.1f), range(-0.1f, 0.1f), 1f);
+				ray.direction.set(range(-0.1f, 0.1f), range(-0.1f, 0.1f), -1f);
+				break;
+			case COPLANAR:
+				ray.origin.set(planarDirection(tmp).scl(range(2f, 3f)));
+				ray.direction.set(ray.origin).scl(-1f).add(range(-0.1f, 0.1f), range(-0.1f, 0.1f), 0f);
+				break;
+			case TOUCHING_EDGE:
+				ray.direction.set(triangle.p1).lerp(triangle.p2, range(0.2f, 0.8f));
+				ray.origin.set(direction(tmp)).add(0f, 0f, 1.5f).add(ray.direction);
+				ray.direction.sub(ray.origin);
+				break;
+			case DEGENERATE:
+				triangle.p3.set(triangle.p1).lerp(triangle.p2, range(0.2f, 0.8f));
+				ray.direction.set(triangle.p1).lerp(triangle.p2, range(0.2f, 0.8f));
+				ray.origin.set(ray.direction).add(range(-0.5f, 0.5f), range(-0.5f, 0.5f), 1f);
+				ray.direction.sub(ray.origin);
+				break;
+		}
+		ray.direction.nor();
+		randomizeTransform();
+		transform(triangle);
+		ray.mul(transform);
+	}
+
+	/**
+	 * Sets 2 segments in the given configuration, also used as rays going from the start of the
+	 * segment towards its end
+	 * <ul>
+	 *     <li>{@link Category#DISJOINT}: segments are not in the same plane</li>
+	 *     <li>{@link Category#CROSSING}: segments cross at a point</li>
+	 *     <li>{@link Category#COPLANAR}: segments are collinear and overlap</li>
+	 *     <li>{@link Category#TOUCHING_EDGE}: segments share an end, like edges of a mesh</li>
+	 *     <li>{@link Category#DEGENERATE}: second segment has a length of 0 and is on the first</li>
+	 * </ul>
+	 */
+	public void segments(Category category, Segment first, Segment second) {
+		first.a.set(range(-1f, -0.5f), range(-0.1f, 0.1f), 0f);
+		first.b.set(range(0.5f, 1f), range(-0.1f, 0.1f), 0f);
+
+		switch(category) {
+			case DISJOINT:
+				second.a.set(range(-0.1f, 0.1f), range(-1f, -0.5f), range(0.5f, 1f));
+				second.b.set(range(-0.1f, 0.1f), range(0.5f, 1f), range(0.5f, 1f));
+				break;
+			case CROSSING:
+				second.a.set(range(-0.1f, 0.1f), range(-1f, -0.5f), 0f);
+				second.b.set(range(-0.1f, 0.1f), range(0.5f, 1f), 0f);
+				break;
+			case COPLANAR:
+				second.a.set(first.a).lerp(first.b, range(0.2f, 0.4f));
+				second.b.set(first.a).lerp(first.b, range(1.2f, 1.5f));
+				break;
+			case TOUCHING_EDGE:
+				second.a.set(first.b);
+				second.b.set(first.b).add(direction(tmp));
+				break;
+			case DEGENERATE:
+				second.a.set(first.a).lerp(first.b, range(0.2f, 0.8f));
+				second.b.set(second.a);
+				break;
+		}
+		randomizeTransform();
+		first.a.mul(transform);
+		first.b.mul(transform);
+		second.a.mul(transform);
+		second.b.mul(transform);
+	}
+
+	/**
+	 * Sets a counterclockwise triangle in the XY plane around the origin
+	 */
+	private void triangle(Triangle out, float minRadius, float maxRadius) {
+		float angle = range(0f, MathUtils.PI2);
+		for(int i = 0; i < 3; i++) {
+			float pointAngle = angle + i * MathUtils.PI2 / 3f + range(-0.3f, 0.3f);
+			float radius = range(minRadius, maxRadius);
+			out.getPoint(i + 1).set(MathUtils.cos(pointAngle) * radius,
+					MathUtils.sin(pointAngle) * radius,
+					0f);
+		}
+	}
+
+	/**
+	 * Sets a triangle sharing the first edge of the given one, on the other side of that edge
+	 */
+	private void neighbour(Triangle triangle, float height, Triangle out) {
+		Vector3 middle = tmp.set(triangle.p1).add(triangle.p2).scl(0.5f);
+		out.set(triangle.p2, triangle.p1, middle);
+		out.p3.scl(2f).sub(triangle.p3).add(0f, 0f, height);
+	}
+
+	/**
+	 * Sets a triangle with its points on a line crossing the XY plane near the origin
+	 */
+	private void degenerate(Triangle out) {
+		out.p1.set(range(-0.1f, 0.1f), range(-0.1f, 0.1f), range(0.5f, 1f));
+		out.p3.set(range(-0.1f, 0.1f), range(-0.1f, 0.1f), range(-1f, -0.5f));
+		out.p2.set(out.p1).lerp(out.p3, range(0.2f, 0.8f));
+	}
+
+	private void rotate(Triangle triangle) {
+		transform.setToRotation(direction(tmp), range(0f, 360f));
+		transform(triangle);
+	}
+
+	private void randomizeTransform() {
+		transform.setToTranslation(range(-10f, 10f), range(-10f, 10f), range(-10f, 10f))
+				.rotate(direction(tmp), range(0f, 360f));
+	}
+
+	private void transform(Triangle triangle) {
+		triangle.p1.mul(transform);
+		triangle.p2.mul(transform);
+		triangle.p3.mul(transform);
+	}
+
+	private Vector3 direction(Vector3 out) {
+		float z = range(-1f, 1f);
+		float angle = range(0f, MathUtils.PI2);
+		float radius = (float)Math.sqrt(1f - z * z);
+		return out.set(MathUtils.cos(angle) * radius, MathUtils.sin(angle) * radius, z);
+	}
+
+	private Vector3 planarDirection(Vector3 out) {
+		float angle = range(0f, MathUtils.PI2);
+		return out.set(MathUtils.cos(angle), MathUtils.sin(angle), 0f);
+	}
+
+	private float range(float min, float max) {
+		return min + random.nextFloat() * (max - min);
+	}
+
+	/**
+	 * Configuration of the inputs of an intersection
+	 */
+	public enum Category {
+		DISJOINT,
+		CROSSING,
+		COPLANAR,
+		TOUCHING_EDGE,
+		DEGENERATE
+	}
+}
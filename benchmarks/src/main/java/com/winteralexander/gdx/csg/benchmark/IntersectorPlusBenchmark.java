@@ -0,0 +1,133 @@
+package com.winteralexander.gdx.csg.benchmark;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.Ray;
+import com.badlogic.gdx.math.collision.Segment;
+import com.winteralexander.gdx.csg.IntersectorPlus;
+import com.winteralexander.gdx.csg.IntersectorPlus.LineIntersectionResult;
+import com.winteralexander.gdx.csg.IntersectorPlus.TriangleIntersectionResult;
+import com.winteralexander.gdx.csg.SegmentPlus;
+import com.winteralexander.gdx.csg.Triangle;
+import com.winteralexander.gdx.csg.benchmark.IntersectionInputs.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of each {@link IntersectorPlus} kernel separately, for each
+ * {@link Category} of inputs. Every invocation intersects the next of a fixed set of random
+ * inputs of the category, so that branches are not predicted from a single input. Running with
+ * {@code -prof gc} also reports the allocation rate of each kernel and category.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntersectorPlusBenchmark {
+	/**
+	 * Number of inputs of each kernel, a power of 2 to cycle through them with a mask
+	 */
+	private static final int INPUT_COUNT = 1024;
+
+	private static final float TOLERANCE = 1e-5f;
+
+	@Param
+	public Category category;
+
+	private final Triangle[] firstTriangles = new Triangle[INPUT_COUNT],
+			secondTriangles = new Triangle[INPUT_COUNT];
+	private final Triangle[] firstCoplanarTriangles = new Triangle[INPUT_COUNT],
+			secondCoplanarTriangles = new Triangle[INPUT_COUNT];
+	private final Triangle[] rayTriangles = new Triangle[INPUT_COUNT];
+	private final Ray[] rays = new Ray[INPUT_COUNT];
+	private final Segment[] firstSegments = new Segment[INPUT_COUNT],
+			secondSegments = new Segment[INPUT_COUNT];
+	private final Vector3[] firstDirections = new Vector3[INPUT_COUNT],
+			secondDirections = new Vector3[INPUT_COUNT];
+
+	private final IntersectorPlus.Context context = new IntersectorPlus.Context();
+	private final Segment segmentOut = new SegmentPlus();
+	private final Vector3 pointOut = new Vector3();
+	private int next = 0;
+
+	@Setup
+	public void setup() {
+		IntersectionInputs inputs = new IntersectionInputs(category.ordinal());
+		for(int i = 0; i < INPUT_COUNT; i++) {
+			firstTriangles[i] = new Triangle();
+			secondTriangles[i] = new Triangle();
+			inputs.triangles(category, firstTriangles[i], secondTriangles[i]);
+
+			firstCoplanarTriangles[i] = new Triangle();
+			secondCoplanarTriangles[i] = new Triangle();
+			inputs.coplanarTriangles(category, firstCoplanarTriangles[i], secondCoplanarTriangles[i]);
+
+			rayTriangles[i] = new Triangle();
+			rays[i] = new Ray();
+			inputs.triangleRay(category, rayTriangles[i], rays[i]);
+
+			firstSegments[i] = new SegmentPlus();
+			secondSegments[i] = new SegmentPlus();
+			inputs.segments(category, firstSegments[i], secondSegments[i]);
+			firstDirections[i] = firstSegments[i].b.cpy().sub(firstSegments[i].a);
+			secondDirections[i] = secondSegments[i].b.cpy().sub(secondSegments[i].a);
+		}
+	}
+
+	@Benchmark
+	public TriangleIntersectionResult intersectTriangleTriangle() {
+		int i = nextInput();
+		return IntersectorPlus.intersectTriangleTriangle(firstTriangles[i], secondTriangles[i],
+				TOLERANCE, false, segmentOut, context);
+	}
+
+	@Benchmark
+	public boolean intersectTriangleRay() {
+		int i = nextInput();
+		return IntersectorPlus.intersectTriangleRay(rayTriangles[i], rays[i],
+				TOLERANCE, segmentOut, context);
+	}
+
+	@Benchmark
+	public LineIntersectionResult intersectSegmentSegment() {
+		int i = nextInput();
+		return IntersectorPlus.intersectSegmentSegment(firstSegments[i], secondSegments[i],
+				TOLERANCE, pointOut, context);
+	}
+
+	@Benchmark
+	public LineIntersectionResult intersectRayRay() {
+		int i = nextInput();
+		return IntersectorPlus.intersectRayRay(firstSegments[i].a, firstDirections[i],
+				secondSegments[i].a, secondDirections[i], TOLERANCE, pointOut);
+	}
+
+	@Benchmark
+	public boolean intersectCoplanarTriangles() {
+		int i = nextInput();
+		return IntersectorPlus.intersectCoplanarTriangles(firstCoplanarTriangles[i],
+				secondCoplanarTriangles[i], TOLERANCE, context);
+	}
+
+	private int nextInput() {
+		int input = next;
+		next = (next + 1) & (INPUT_COUNT - 1);
+		return input;
+	}
+}
@@ -0,0 +1,598 @@
+package com.winteralexander.gdx.csg;
+
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.Arrays;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Bounding volume hierarchy of axis aligned bounding boxes. Used as a broad phase to quickly find
+ * which items (usually {@link MeshFace}s) have bounds overlapping a given box without having to
+ * test every item.
+ * <p>
+ * Items added before the first call to {@link #build()} are only collected and the hierarchy is
+ * then built top-down in one go. Once built, the tree is maintained incrementally: items added,
+ * removed or updated afterwards only modify the branch they are in, which is rotated as needed to
+ * keep the hierarchy balanced.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class AABBTree<T> {
+	private static final int NULL = -1;
+
+	// nodes are stored as primitive arrays, a node is a leaf when its height is 0 and is free when
+	// its height is -1
+	private float[] nodeBounds = new float[6 * 32];
+	private int[] nodeParent = new int[32];
+	private int[] nodeChild1 = new int[32];
+	private int[] nodeChild2 = new int[32];
+	private int[] nodeHeight = new int[32];
+	private Object[] nodeItem = new Object[32];
+	private int nodeCapacity = 0;
+	private int freeNode = NULL;
+
+	private int root = NULL;
+	private boolean built = false;
+
+	private final ObjectIntMap<T> leaves = new ObjectIntMap<>();
+
+	private int[] order = new int[16];
+	private final IntArray stack = new IntArray(64);
+
+	/**
+	 * Adds an item to this tree with the provided bounds. If the tree was already built, the item
+	 * is inserted in the hierarchy right away, otherwise it will be once {@link #build()} is
+	 * called.
+	 *
+	 * @param item item to add, must not already be in the tree
+	 * @param minX minimum x of the bounds of the item
+	 * @param minY minimum y of the bounds of the item
+	 * @param minZ minimum z of the bounds of the item
+	 * @param maxX maximum x of the bounds of the item
+	 * @param maxY maximum y of the bounds of the item
+	 * @param maxZ maximum z of the bounds of the item
+	 */
+	public void add(T item,
+	                float minX, float minY, float minZ,
+	                float maxX, float maxY, float maxZ) {
+		if(leaves.containsKey(item))
+			throw new IllegalArgumentException("Item is already in the tree");
+
+		int leaf = allocateNode();
+		setBounds(leaf, minX, minY, minZ, maxX, maxY, maxZ);
+		nodeHeight[leaf] = 0;
+		nodeItem[leaf] = item;
+		leaves.put(item, leaf);
+
+		if(built)
+			insertLeaf(leaf);
+	}
+
+	/**
+	 * Removes an item from this tree
+	 *
+	 * @param item item to remove
+	 * @return true if the item was in the tree, otherwise false
+	 */
+	public boolean remove(T item) {
+		int leaf = leaves.remove(item, NULL);
+		if(leaf == NULL)
+			return false;
+
+		if(built)
+			removeLeaf(leaf);
+		freeNode(leaf);
+		return true;
+	}
+
+	/**
+	 * Changes the bounds of an item already in this tree
+	 *
+	 * @param item item to update
+	 * @param minX new minimum x of the bounds of the item
+	 * @param minY new minimum y of the bounds of the item
+	 * @param minZ new minimum z of the bounds of the item
+	 * @param maxX new maximum x of the bounds of the item
+	 * @param maxY new maximum y of the bounds of the item
+	 * @param maxZ new maximum z of the bounds of the item
+	 */
+	public void update(T item,
+	                   float minX, float minY, float minZ,
+	                   float maxX, float maxY, float maxZ) {
+		int leaf = leaves.get(item, NULL);
+		if(leaf == NULL)
+			throw new IllegalArgumentException("Item is not in the tree");
+
+		if(built)
+			removeLeaf(leaf);
+		setBounds(leaf, minX, minY, minZ, maxX, maxY, maxZ);
+		if(built)
+			insertLeaf(leaf);
+	}
+
+	/**
+	 * Builds the hierarchy top-down from all the items in this tree, splitting the items in 2
+	 * halves along the longest axis of their centers at each level. Can also be called on an
+	 * already built tree to rebalance it after many incremental changes.
+	 */
+	public void build() {
+		int leafCount = 0;
+		for(int i = 0; i < nodeCapacity; i++) {
+			if(nodeHeight[i] == 0) {
+				if(order.length <= leafCount)
+					order = Arrays.copyOf(order, order.length * 2);
+				order[leafCount++] = i;
+			} else if(nodeHeight[i] > 0)
+				freeNode(i);
+		}
+
+		built = true;
+		root = leafCount == 0 ? NULL : buildNode(0, leafCount);
+		if(root != NULL)
+			nodeParent[root] = NULL;
+	}
+
+	private int buildNode(int start, int end) {
+		if(end - start == 1)
+			return order[start];
+
+		float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+		float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+
+		for(int i = start; i < end; i++) {
+			int leaf = order[i];
+			float x = center(leaf, 0);
+			float y = center(leaf, 1);
+			float z = center(leaf, 2);
+			minX = min(minX, x);
+			minY = min(minY, y);
+			minZ = min(minZ, z);
+			maxX = max(maxX, x);
+			maxY = max(maxY, y);
+			maxZ = max(maxZ, z);
+		}
+
+		int axis;
+		if(maxX - minX >= maxY - minY && maxX - minX >= maxZ - minZ)
+			axis = 0;
+		else if(maxY - minY >= maxZ - minZ)
+			axis = 1;
+		else
+			axis = 2;
+
+		int middle = (start + end) >>> 1;
+		select(start, end - 1, middle, axis);
+
+		int child1 = buildNode(start, middle);
+		int child2 = buildNode(middle, end);
+
+		int node = allocateNode();
+		nodeChild1[node] = child1;
+		nodeChild2[node] = child2;
+		nodeParent[child1] = node;
+		nodeParent[child2] = node;
+		refit(node);
+
+		return node;
+	}
+
+	/**
+	 * Partially sorts order[left..right] so that the leaf at index k is the one that would be there
+	 * if the range was sorted by center along the given axis (quickselect)
+	 */
+	private void select(int left, int right, int k, int axis) {
+		while(right > left) {
+			float pivot = center(order[(left + right) >>> 1], axis);
+			int i = left, j = right;
+			while(i <= j) {
+				while(center(order[i], axis) < pivot)
+					i++;
+				while(center(order[j], axis) > pivot)
+					j--;
+				if(i <= j) {
+					int tmp = order[i];
+					order[i] = order[j];
+					order[j] = tmp;
+					i++;
+					j--;
+				}
+			}
+
+			if(k <= j)
+				right = j;
+			else if(k >= i)
+				left = i;
+			else
+				return;
+		}
+	}
+
+	private float center(int node, int axis) {
+		return nodeBounds[node * 6 + axis] + nodeBounds[node * 6 + 3 + axis];
+	}
+
+	/**
+	 * Inserts a leaf in the hierarchy next to the sibling that enlarges the tree the least
+	 */
+	private void insertLeaf(int leaf) {
+		if(root == NULL) {
+			root = leaf;
+			nodeParent[leaf] = NULL;
+			return;
+		}
+
+		int index = root;
+		while(nodeHeight[index] > 0) {
+			int child1 = nodeChild1[index];
+			int child2 = nodeChild2[index];
+
+			float area = halfArea(index, index);
+			float combinedArea = halfArea(index, leaf);
+
+			// cost of creating a new parent for this node and the new leaf
+			float cost = 2f * combinedArea;
+
+			// minimum cost of pushing the leaf further down the tree
+			float inheritanceCost = 2f * (combinedArea - area);
+
+			float cost1 = descendCost(child1, leaf) + inheritanceCost;
+			float cost2 = descendCost(child2, leaf) + inheritanceCost;
+
+			if(cost < cost1 && cost < cost2)
+				break;
+
+			index = cost1 < cost2 ? child1 : child2;
+		}
+
+		int sibling = index;
+		int oldParent = nodeParent[sibling];
+		int newParent = allocateNode();
+		nodeParent[newParent] = oldParent;
+		nodeChild1[newParent] = sibling;
+		nodeChild2[newParent] = leaf;
+		nodeParent[sibling] = newParent;
+		nodeParent[leaf] = newParent;
+
+		if(oldParent == NULL)
+			root = newParent;
+		else if(nodeChild1[oldParent] == sibling)
+			nodeChild1[oldParent] = newParent;
+		else
+			nodeChild2[oldParent] = newParent;
+
+		refitAndBalance(newParent);
+	}
+
+	private float descendCost(int child, int leaf) {
+		if(nodeHeight[child] == 0)
+			return halfArea(child, leaf);
+		return halfArea(child, leaf) - halfArea(child, child);
+	}
+
+	private void removeLeaf(int leaf) {
+		if(leaf == root) {
+			root = NULL;
+			return;
+		}
+
+		int parent = nodeParent[leaf];
+		int grandParent = nodeParent[parent];
+		int sibling = nodeChild1[parent] == leaf ? nodeChild2[parent] : nodeChild1[parent];
+
+		if(grandParent == NULL) {
+			root = sibling;
+			nodeParent[sibling] = NULL;
+			freeNode(parent);
+			return;
+		}
+
+		if(nodeChild1[grandParent] == parent)
+			nodeChild1[grandParent] = sibling;
+		else
+			nodeChild2[grandParent] = sibling;
+		nodeParent[sibling] = grandParent;
+		freeNode(parent);
+
+		refitAndBalance(grandParent);
+	}
+
+	/**
+	 * Refits every node from the provided one up to the root, rotating unbalanced nodes on the way
+	 * so that incremental changes cannot degrade the tree into a list
+	 */
+	private void refitAndBalance(int node) {
+		while(node != NULL) {
+			node = balance(node);
+			refit(node);
+			node = nodeParent[node];
+		}
+	}
+
+	/**
+	 * Rotates the taller child of the provided node up if the heights of its children differ by
+	 * more than 1
+	 *
+	 * @return node now at the position of the provided node
+	 */
+	private int balance(int a) {
+		if(nodeHeight[a] < 2)
+			return a;
+
+		int b = nodeChild1[a];
+		int c = nodeChild2[a];
+		int difference = nodeHeight[c] - nodeHeight[b];
+
+		if(difference > 1) {
+			rotateUp(a, c, false);
+			return c;
+		}
+
+		if(difference < -1) {
+			rotateUp(a, b, true);
+			return b;
+		}
+
+		return a;
+	}
+
+	/**
+	 * Moves child up in place of its parent, the parent keeping the shortest child of the child in
+	 * place of the child
+	 */
+	private void rotateUp(int parent, int child, boolean firstChild) {
+		int grandChild1 = nodeChild1[child];
+		int grandChild2 = nodeChild2[child];
+
+		nodeChild1[child] = parent;
+		nodeParent[child] = nodeParent[parent];
+		nodeParent[parent] = child;
+
+		int grandParent = nodeParent[child];
+		if(grandParent == NULL)
+			root = child;
+		else if(nodeChild1[grandParent] == parent)
+			nodeChild1[grandParent] = child;
+		else
+			nodeChild2[grandParent] = child;
+
+		int kept = nodeHeight[grandChild1] > nodeHeight[grandChild2] ? grandChild1 : grandChild2;
+		int moved = kept == grandChild1 ? grandChild2 : grandChild1;
+
+		nodeChild2[child] = kept;
+		if(firstChild)
+			nodeChild1[parent] = moved;
+		else
+			nodeChild2[parent] = moved;
+		nodeParent[moved] = parent;
+
+		refit(parent);
+		refit(child);
+	}
+
+	/**
+	 * Half of the surface area of the box enclosing both provided nodes
+	 */
+	private float halfArea(int node1, int node2) {
+		int a = node1 * 6, b = node2 * 6;
+		float x = max(nodeBounds[a + 3], nodeBounds[b + 3]) - min(nodeBounds[a], nodeBounds[b]);
+		float y = max(nodeBounds[a + 4], nodeBounds[b + 4]) - min(nodeBounds[a + 1], nodeBounds[b + 1]);
+		float z = max(nodeBounds[a + 5], nodeBounds[b + 5]) - min(nodeBounds[a + 2], nodeBounds[b + 2]);
+		return x * y + y * z + z * x;
+	}
+
+	private void refit(int node) {
+		int child1 = nodeChild1[node];
+		int child2 = nodeChild2[node];
+		for(int i = 0; i < 3; i++) {
+			nodeBounds[node * 6 + i] = min(nodeBounds[child1 * 6 + i], nodeBounds[child2 * 6 + i]);
+			nodeBounds[node * 6 + 3 + i] = max(nodeBounds[child1 * 6 + 3 + i], nodeBounds[child2 * 6 + 3 + i]);
+		}
+		nodeHeight[node] = 1 + max(nodeHeight[child1], nodeHeight[child2]);
+	}
+
+	/**
+	 * Finds all items whose bounds overlap the provided box and adds them to the output array.
+	 * Items touching the box are considered overlapping.
+	 *
+	 * @param minX minimum x of the box
+	 * @param minY minimum y of the box
+	 * @param minZ minimum z of the box
+	 * @param maxX maximum x of the box
+	 * @param maxY maximum y of the box
+	 * @param maxZ maximum z of the box
+	 * @param out array in which to add the overlapping items
+	 */
+	public void query(float minX, float minY, float minZ,
+	                  float maxX, float maxY, float maxZ,
+	                  Array<T> out) {
+		query(minX, minY, minZ, maxX, maxY, maxZ, out, stack);
+	}
+
+	/**
+	 * Same as {@link #query(float, float, float, float, float, float, Array)} but traverses the
+	 * tree using the provided stack instead of the one of this tree. Threads each using their own
+	 * stack can query the same tree concurrently, as long as it is not modified meanwhile.
+	 *
+	 * @param minX minimum x of the box
+	 * @param minY minimum y of the box
+	 * @param minZ minimum z of the box
+	 * @param maxX maximum x of the box
+	 * @param maxY maximum y of the box
+	 * @param maxZ maximum z of the box
+	 * @param out array in which to add the overlapping items
+	 * @param stack temporary stack used for the traversal
+	 */
+	@SuppressWarnings("unchecked")
+	public void query(float minX, float minY, float minZ,
+	                  float maxX, float maxY, float maxZ,
+	                  Array<T> out,
+	                  IntArray stack) {
+		if(root == NULL)
+			return;
+
+		stack.clear();
+		stack.add(root);
+
+		while(stack.size > 0) {
+			int node = stack.pop();
+			int b = node * 6;
+
+			if(nodeBounds[b] > maxX || nodeBounds[b + 3] < minX
+			|| nodeBounds[b + 1] > maxY || nodeBounds[b + 4] < minY
+			|| nodeBounds[b + 2] > maxZ || nodeBounds[b + 5] < minZ)
+				continue;
+
+			if(nodeHeight[node] == 0) {
+				out.add((T)nodeItem[node]);
+				continue;
+			}
+
+			stack.add(nodeChild2[node]);
+			stack.add(nodeChild1[node]);
+		}
+	}
+
+	/**
+	 * Sets the provided box to the bounds enclosing all items of this tree. Only available once
+	 * the tree is built.
+	 *
+	 * @param out box to set
+	 * @return true if the bounds were set, false if the tree is empty or not built
+	 */
+	public boolean getBounds(BoundingBox out) {
+		if(root == NULL)
+			return false;
+
+		int b = root * 6;
+		out.min.set(nodeBounds[b], nodeBounds[b + 1], nodeBounds[b + 2]);
+		out.max.set(nodeBounds[b + 3], nodeBounds[b + 4], nodeBounds[b + 5]);
+		return true;
+	}
+
+	/**
+	 * Makes this tree a copy of the provided tree, replacing each item of the other tree by the
+	 * item it maps to. This avoids having to rebuild the hierarchy when the items were copied.
+	 *
+	 * @param other tree to copy
+	 * @param itemMapping item in this tree for each item of the other tree
+	 * @param <S> type of the items of the other tree
+	 */
+	public <S> void set(AABBTree<S> other, ObjectMap<S, T> itemMapping) {
+		nodeBounds = Arrays.copyOf(other.nodeBounds, other.nodeBounds.length);
+		nodeParent = Arrays.copyOf(other.nodeParent, other.nodeParent.length);
+		nodeChild1 = Arrays.copyOf(other.nodeChild1, other.nodeChild1.length);
+		nodeChild2 = Arrays.copyOf(other.nodeChild2, other.nodeChild2.length);
+		nodeHeight = Arrays.copyOf(other.nodeHeight, other.nodeHeight.length);
+		nodeItem = new Object[other.nodeItem.length];
+		nodeCapacity = other.nodeCapacity;
+		freeNode = other.freeNode;
+		root = other.root;
+		built = other.built;
+
+		leaves.clear();
+		for(int i = 0; i < nodeCapacity; i++) {
+			if(nodeHeight[i] != 0)
+				continue;
+
+			@SuppressWarnings("unchecked")
+			T item = itemMapping.get((S)other.nodeItem[i]);
+			if(item == null)
+				throw new IllegalArgumentException("Item mapping is missing an item of the tree");
+			nodeItem[i] = item;
+			leaves.put(item, i);
+		}
+	}
+
+	/**
+	 * Removes all items and nodes from this tree. The tree will need to be built again.
+	 */
+	public void clear() {
+		Arrays.fill(nodeItem, 0, nodeCapacity, null);
+		nodeCapacity = 0;
+		freeNode = NULL;
+		root = NULL;
+		built = false;
+		leaves.clear();
+	}
+
+	/**
+	 * @param item item to check
+	 * @return true if the item is in this tree, otherwise false
+	 */
+	public boolean contains(T item) {
+		return leaves.containsKey(item);
+	}
+
+	/**
+	 * @return amount of items in this tree
+	 */
+	public int size() {
+		return leaves.size;
+	}
+
+	/**
+	 * @return height of the hierarchy, 0 if it only has one item and -1 if it is empty or not built
+	 */
+	public int getHeight() {
+		return root == NULL ? -1 : nodeHeight[root];
+	}
+
+	/**
+	 * @return true if the hierarchy was built and is kept up to date, otherwise false
+	 */
+	public boolean isBuilt() {
+		return built;
+	}
+
+	private void setBounds(int node,
+	                       float minX, float minY, float minZ,
+	                       float maxX, float maxY, float maxZ) {
+		nodeBounds[node * 6] = minX;
+		nodeBounds[node * 6 + 1] = minY;
+		nodeBounds[node * 6 + 2] = minZ;
+		nodeBounds[node * 6 + 3] = maxX;
+		nodeBounds[node * 6 + 4] = maxY;
+		nodeBounds[node * 6 + 5] = maxZ;
+	}
+
+	private int allocateNode() {
+		int node;
+		if(freeNode != NULL) {
+			node = freeNode;
+			freeNode = nodeParent[node];
+		} else {
+			if(nodeCapacity == nodeHeight.length) {
+				int capacity = nodeCapacity * 2;
+				nodeBounds = Arrays.copyOf(nodeBounds, capacity * 6);
+				nodeParent = Arrays.copyOf(nodeParent, capacity);
+				nodeChild1 = Arrays.copyOf(nodeChild1, capacity);
+				nodeChild2 = Arrays.copyOf(nodeChild2, capacity);
+				nodeHeight = Arrays.copyOf(nodeHeight, capacity);
+				nodeItem = Arrays.copyOf(nodeItem, capacity);
+			}
+			node = nodeCapacity++;
+		}
+
+		nodeParent[node] = NULL;
+		nodeChild1[node] = NULL;
+		nodeChild2[node] = NULL;
+		nodeHeight[node] = 1;
+		nodeItem[node] = null;
+		return node;
+	}
+
+	private void freeNode(int node) {
+		nodeParent[node] = freeNode;
+		nodeHeight[node] = -1;
+		nodeItem[node] = null;
+		freeNode = node;
+	}
+}
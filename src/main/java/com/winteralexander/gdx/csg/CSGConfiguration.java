@@ -1,5 +1,7 @@
 package com.winteralexander.gdx.csg;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Configuration for CSG operations
  * <p>
@@ -13,4 +15,14 @@ public class CSGConfiguration {
 	public float tolerance = 1e-5f;
 	public boolean enableMerging = true;
 	public boolean enableBoundaryFaces = true;
+	// classify faces per connected region with one ray cast each instead of per vertex
+	public boolean enableRegionClassification = false;
+	// clip each face by all the planes cutting it as polygons and triangulate the result once,
+	// instead of splitting its triangle fragments by each plane in turn
+	public boolean enablePolygonClipping = false;
+	// pool on which to split faces and classify vertices in parallel, null to do it on the
+	// calling thread
+	public ForkJoinPool forkJoinPool = null;
+	// statistics filled in by the operations using this configuration, null to not collect any
+	public CSGStatistics statistics = null;
 }
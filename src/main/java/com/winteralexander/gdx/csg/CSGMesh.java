@@ -4,34 +4,33 @@ import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.graphics.g3d.model.MeshPart;
-import com.badlogic.gdx.math.Intersector;
-import com.badlogic.gdx.math.Plane;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.math.collision.Ray;
 import com.badlogic.gdx.math.collision.Segment;
 import com.badlogic.gdx.utils.*;
-import com.winteralexander.gdx.csg.IntersectorPlus.TriangleIntersectionResult;
 import com.winteralexander.gdx.utils.io.Serializable;
-import com.winteralexander.gdx.utils.math.VectorUtil;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.FloatBuffer;
 import java.nio.ShortBuffer;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.badlogic.gdx.graphics.GL20.GL_TRIANGLES;
 import static com.winteralexander.gdx.csg.IntersectorPlus.LineIntersectionResult.COLLINEAR;
-import static com.winteralexander.gdx.csg.IntersectorPlus.TriangleIntersectionResult.*;
 import static com.winteralexander.gdx.csg.IntersectorPlus.intersectTriangleRay;
-import static com.winteralexander.gdx.csg.IntersectorPlus.intersectTriangleTriangle;
 import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
 import static com.winteralexander.gdx.utils.io.SerializationUtil.readVec3;
 import static com.winteralexander.gdx.utils.io.SerializationUtil.writeVec3;
 import static com.winteralexander.gdx.utils.io.StreamUtil.*;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 
 /**
  * A mesh for CSG operation. A {@link CSGMesh} can be built from a {@link Mesh} and then can
@@ -42,36 +41,54 @@ import static com.winteralexander.gdx.utils.io.StreamUtil.*;
  * @author Alexander Winter
  */
 public class CSGMesh implements Serializable {
+	// number of faces split by each task when splitting in parallel
+	private static final int SPLIT_CHUNK_SIZE = 64;
+	// number of vertices classified by each task when classifying in parallel
+	private static final int CLASSIFY_CHUNK_SIZE = 256;
+
 	private final Array<MeshVertex> vertices;
 	private final Array<MeshFace> faces;
 
 	private VertexAttributes attributes;
 
-	private final ObjectIntMap<MeshVertex> vertexIndices = new ObjectIntMap<>();
-	private final ObjectMap<MeshVertex, InsideStatus> vertexStatus = new ObjectMap<>();
-	private final ObjectMap<MeshFace, InsideStatus> faceStatus = new ObjectMap<>();
-	private final ObjectSet<MeshVertex> usedVertices = new ObjectSet<>();
-	// list of faces which intersect in a coplanar way
-	private final HashSet<MeshFace> boundaryFaces = new HashSet<>();
-	private final Array<Segment> cutEdges = new Array<>();
+	// status code of each vertex at its index, 0 if not classified, see InsideStatus#toCode
+	private byte[] vertexStatus = new byte[0];
+	// status code of each face at its index, 0 if not classified
+	private byte[] faceStatus = new byte[0];
+	// indices of the vertices used by at least one face, used while deleting faceless vertices
+	private final BitSet usedVertices = new BitSet();
+	// indices of the faces which intersect in a coplanar way
+	private final BitSet boundaryFaces = new BitSet();
+	// boundary faces found by the splitters, indexed once the split faces are merged
+	private final Array<MeshFace> splitBoundaryFaces = new Array<>();
+	// edges along which the faces were cut by the last split, indexed by their bounds
+	private final AABBTree<Segment> cutEdges = new AABBTree<>();
+	private final Array<Segment> tmpCutEdges = new Array<>();
+	private final IntArray tmpCutEdgeStack = new IntArray();
+
+	private final Vector3 tmpV1 = new Vector3();
+	private final Vector3 tmpSegmentIntersection = new Vector3();
 
-	private final SegmentPlus intersectSegment = new SegmentPlus();
-	private final Plane plane = new Plane();
+	// connectivity of the faces, built while merging faces and classifying them by region
+	private final MeshTopology topology = new MeshTopology();
+	private final BoundingBox tmpOtherBounds = new BoundingBox();
+	private final BoundingBox tmpFaceBounds = new BoundingBox();
 
-	private final float[] tmpArray = new float[9];
-	private final Intersector.SplitTriangle splitTriangle = new Intersector.SplitTriangle(3);
+	// vertices created while splitting along with the face that was split when each was created,
+	// used to weld the vertices created by different splitters
+	private VertexHash splitVertices = null;
+	// vertices created while splitting on the edges of the original faces, keyed by edge
+	private EdgeVertexCache splitEdgeVertices = null;
+	private final ObjectMap<MeshVertex, MeshVertex> tmpWeldMapping = new ObjectMap<>();
 
-	private final Vector3 tmpV1 = new Vector3(),
-			tmpV2 = new Vector3(),
-			tmpV3 = new Vector3();
-	private final Vector3 tmpSegmentIntersection = new Vector3();
+	// temporaries for the computations involving another mesh, which may be shared with other
+	// threads, so that nothing is written in the other mesh
+	private final IntersectorPlus.Context intersectorContext = new IntersectorPlus.Context();
+	private final RayCastContext rayCastContext = new RayCastContext();
 
-	private final Array<MeshFace> toRemove = new Array<>();
-	private final Array<MeshFace> toAdd = new Array<>();
-	private final HashMap<MeshVertex, MeshFace> tmpNewVertices = new HashMap<>();
-
-	private final Ray tmpRay = new Ray();
-	private final SegmentPlus tmpSegment = new SegmentPlus();
+	// bounding volume hierarchy of the faces, built lazily and kept up to date once built,
+	// volatile so that other threads only see it once fully built
+	private volatile AABBTree<MeshFace> faceTree = null;
 
 	private CSGConfiguration config = CSGConfiguration.DEFAULT;
 
@@ -100,291 +117,371 @@ public class CSGMesh implements Serializable {
 	public void mergeWith(CSGMesh other) {
 		this.vertices.addAll(other.vertices);
 		this.faces.addAll(other.faces);
+
+		if(faceTree != null)
+			for(MeshFace face : other.faces)
+				addToTree(faceTree, face);
 	}
 
+	/**
+	 * @see #splitTriangles(CSGMesh, Array)
+	 */
 	public void splitTriangles(CSGMesh other) {
-		tmpNewVertices.clear();
+		splitTriangles(other, null);
+	}
+
+	/**
+	 * Splits the faces of this mesh where they intersect the faces of the other mesh, so that each
+	 * resulting face is either completely inside, outside or on the boundary of the other mesh.
+	 * <p>
+	 * The intersections of each face with the faces of the other mesh can be provided, as
+	 * computed by {@link FaceIntersections}, to avoid testing the same pairs of faces again. Each
+	 * face is then split using its known intersections, and only the fragments created by the
+	 * split are tested, against the faces intersecting the face they come from.
+	 *
+	 * @param other mesh to split this mesh with
+	 * @param intersections for each face index of this mesh, its intersections with the faces of
+	 * the other mesh (null entries if none), or null to find and test them using the face tree of
+	 * the other mesh
+	 */
+	public void splitTriangles(CSGMesh other, Array<Array<FaceIntersections.Intersection>> intersections) {
+		if(intersections != null && intersections.size != faces.size)
+			throw new IllegalArgumentException("intersections must have one entry per face");
+
+		Object event = CSGEvents.beginPhase("splitTriangles", this, other);
+		CSGStatistics statistics = config.statistics;
+		long time = statistics != null ? System.nanoTime() : 0L;
+
 		boundaryFaces.clear();
-		for(int i = 0; i < faces.size; i++) {
-			for(MeshFace otherFace : other.faces) {
-				// given splitFace may modify the faces array, must not put this at the outer level
-				MeshFace face = faces.get(i);
-				TriangleIntersectionResult result = intersectTriangleTriangle(face.getTriangle(),
-						otherFace.getTriangle(), config.tolerance, intersectSegment);
-				if(result == NONCOPLANAR_FACE_FACE) {
-					cutEdges.add(intersectSegment.cpy());
-					plane.set(otherFace.getPosition1(), otherFace.getNormal());
-					splitFace(i, plane);
-				} else if(result == EDGE_FACE) {
-					boolean isEdgeFromFace = false;
-					for(int j = 0; j < 3; j++) {
-						Vector3 start = face.getTriangle().getPoint(j + 1);
-						Vector3 end = face.getTriangle().getPoint((j + 1) % 3 + 1);
-						if(IntersectorPlus.intersectSegmentSegment(start, end,
-								intersectSegment.a, intersectSegment.b, config.tolerance, tmpSegmentIntersection) == COLLINEAR) {
-							isEdgeFromFace = true;
-							break;
-						}
-					}
-
-					if(!isEdgeFromFace) {
-						cutEdges.add(intersectSegment.cpy());
-						plane.set(otherFace.getPosition1(), otherFace.getNormal());
-						splitFace(i, plane);
-					}
-				}
-			}
+		splitBoundaryFaces.clear();
+		cutEdges.clear();
+
+		AABBTree<MeshFace> otherFaceTree = other.getFaceTree();
+		BoundingBox otherBounds = null;
+		if(other.getBounds(tmpOtherBounds)) {
+			tmpOtherBounds.min.sub(config.tolerance);
+			tmpOtherBounds.max.add(config.tolerance);
+			otherBounds = tmpOtherBounds;
 		}
 
-		if(config.enableBoundaryFaces)
-			for(int i = 0; i < faces.size; i++) {
-				MeshFace face = faces.get(i);
-				for(MeshFace otherFace : other.faces) {
-					if(face.getNormal().dot(otherFace.getNormal()) < 0.99f)
-						continue;
-
-					TriangleIntersectionResult result = intersectTriangleTriangle(face.getTriangle(),
-							otherFace.getTriangle(), config.tolerance, intersectSegment);
-					if(result == COPLANAR_FACE_FACE)
-						boundaryFaces.add(face);
-				}
+		MeshFace[] originalFaces = faces.toArray(MeshFace.class);
+		if(splitVertices == null || splitVertices.getTolerance() != config.tolerance) {
+			splitVertices = new VertexHash(config.tolerance);
+			splitEdgeVertices = new EdgeVertexCache(config.tolerance);
+		}
+		ForkJoinPool pool = config.forkJoinPool;
+
+		if(pool == null) {
+			FaceSplitter splitter = new FaceSplitter(config, originalFaces, 0, originalFaces.length,
+					otherFaceTree, otherBounds, intersections);
+			splitter.invoke();
+			collectSplitResult(splitter);
+		} else {
+			// the faces are always split in chunks of the same size so that the result does not
+			// depend on the number of threads of the pool
+			Array<FaceSplitter> splitters = new Array<>();
+			for(int start = 0; start < originalFaces.length; start += SPLIT_CHUNK_SIZE) {
+				FaceSplitter splitter = new FaceSplitter(config, originalFaces, start,
+						min(start + SPLIT_CHUNK_SIZE, originalFaces.length),
+						otherFaceTree, otherBounds, intersections);
+				splitters.add(splitter);
+				pool.execute(splitter);
 			}
-		tmpNewVertices.clear();
 
-		for(int j = 0; j < 10; j++)
-			for(int i = 0; i < faces.size; i++) {
-				checkForMergeWithNeighbors(faces.get(i));
+			for(int i = 0; i < splitters.size; i++) {
+				FaceSplitter splitter = splitters.get(i);
+				splitter.join();
+				collectSplitResult(splitter);
+				splitters.set(i, null);
 			}
+		}
+		splitVertices.clear();
+		splitEdgeVertices.clear();
+		tmpWeldMapping.clear();
+		cutEdges.build();
+		if(statistics != null)
+			time = statistics.endPhase(CSGStatistics.Phase.SPLIT, time);
+
+		mergeFaces();
+
+		// boundary faces merged into another face are no longer in the faces
+		indexFaces();
+		for(MeshFace face : splitBoundaryFaces) {
+			int index = indexOf(face);
+			if(index != -1)
+				boundaryFaces.set(index);
+		}
+		splitBoundaryFaces.clear();
 
 		deleteFacelessVertices();
+		if(statistics != null)
+			statistics.endPhase(CSGStatistics.Phase.MERGE, time);
+		CSGEvents.endPhase(event, this);
 	}
 
-	private void splitFace(int faceIndex, Plane plane) {
-		MeshFace face = faces.get(faceIndex);
-		face.getTriangle().toArray(tmpArray);
-		Intersector.splitTriangle(tmpArray, plane, splitTriangle);
-
-		if(splitTriangle.numBack == 0 && splitTriangle.numFront == 0)
-			throw new IllegalStateException("Split face has no split result");
-
-		for(int i = 0; i < splitTriangle.numBack; i++)
-			processSplitTriangle(face, splitTriangle.back, i * 9);
-
-		for(int i = 0; i < splitTriangle.numFront; i++)
-			processSplitTriangle(face, splitTriangle.front, i * 9);
-		if(toAdd.size == 0)
-			return;
-
-		faces.set(faceIndex, toAdd.get(0));
-		faces.addAll(toAdd, 1, toAdd.size - 1);
-
-		toAdd.clear();
-	}
-
-	private void checkForMergeWithNeighbors(MeshFace face) {
-		if(!config.enableMerging)
-			return;
-
-		faceLoop:
-		for(int i = 0; i < faces.size; i++) {
-			MeshFace current = faces.get(i);
-
-			if(current == face)
-				continue;
-
-			int countMatching = 0;
-			MeshVertex firstMatch = null, secondMatch = null;
-			MeshVertex nonMatchingA = null, nonMatchingB = null;
-
-			if(face.getV1() == current.getV1()
-			|| face.getV1() == current.getV2()
-			|| face.getV1() == current.getV3()) {
-				countMatching++;
-				firstMatch = face.getV1();
-			} else
-				nonMatchingA = face.getV1();
-
-			if(face.getV2() == current.getV1()
-			|| face.getV2() == current.getV2()
-			|| face.getV2() == current.getV3()) {
-				countMatching++;
-				if(firstMatch == null)
-					firstMatch = face.getV2();
-				else
-					secondMatch = face.getV2();
-			} else
-				nonMatchingA = face.getV2();
-
-			if(face.getV3() == current.getV1()
-			|| face.getV3() == current.getV2()
-			|| face.getV3() == current.getV3()) {
-				countMatching++;
-				if(firstMatch == null)
-					firstMatch = face.getV3();
-				else
-					secondMatch = face.getV3();
-			} else
-				nonMatchingA = face.getV3();
-
-			if(countMatching == 3)
-				continue;
-				//throw new IllegalStateException("Duplicate triangles in mesh");
+	/**
+	 * Puts the fragments, vertices, cut edges and boundary faces found by a splitter in this
+	 * mesh. Splitters are collected in order of their range of faces. Vertices created by
+	 * different splitters at the same position are welded the same way a splitter welds the
+	 * vertices it creates, including those created on the same edge of the original faces.
+	 */
+	private void collectSplitResult(FaceSplitter splitter) {
+		Array<MeshVertex> newVertices = splitter.getNewVertices();
+		Array<MeshFace> newVertexFaces = splitter.getNewVertexFaces();
+		Array<MeshVertex> newVertexEdges = splitter.getNewVertexEdges();
+
+		tmpWeldMapping.clear();
+		for(int i = 0; i < newVertices.size; i++) {
+			MeshVertex vertex = newVertices.get(i);
+			MeshFace face = newVertexFaces.get(i);
+			MeshVertex edgeVertex1 = newVertexEdges.get(i * 2);
+			MeshVertex edgeVertex2 = newVertexEdges.get(i * 2 + 1);
+			MeshVertex existing = splitVertices.find(vertex.getPosition(), face.getNormal());
+
+			if(existing == null && edgeVertex1 != null) {
+				existing = splitEdgeVertices.find(edgeVertex1, edgeVertex2, vertex.getPosition());
+				if(existing != null)
+					splitVertices.add(existing, face);
+			}
 
-			if(countMatching != 2)
+			if(existing != null) {
+				tmpWeldMapping.put(vertex, existing);
 				continue;
+			}
 
-			if(current.getV1() != firstMatch && current.getV1() != secondMatch)
-				nonMatchingB = current.getV1();
-			else if(current.getV2() != firstMatch && current.getV2() != secondMatch)
-				nonMatchingB = current.getV2();
-			else if(current.getV3() != firstMatch && current.getV3() != secondMatch)
-				nonMatchingB = current.getV3();
-
-			boolean collinearWithFirst = IntersectorPlus.intersectSegmentSegment(
-					nonMatchingA.getPosition(), nonMatchingB.getPosition(),
-					nonMatchingA.getPosition(), firstMatch.getPosition(),
-					config.tolerance, tmpSegmentIntersection) == COLLINEAR;
-
-			boolean collinearWithSecond = IntersectorPlus.intersectSegmentSegment(
-					nonMatchingA.getPosition(), nonMatchingB.getPosition(),
-					nonMatchingA.getPosition(), secondMatch.getPosition(),
-					config.tolerance, tmpSegmentIntersection) == COLLINEAR;
-
-			if(!collinearWithFirst && !collinearWithSecond)
-				continue;
+			splitVertices.add(vertex, face);
+			if(edgeVertex1 != null)
+				splitEdgeVertices.add(edgeVertex1, edgeVertex2, vertex);
+			vertices.add(vertex);
+		}
 
-			if(collinearWithFirst && collinearWithSecond)
-				continue;
-				//throw new IllegalStateException("Invalid 2 faces");
+		Array<MeshFace> fragments = splitter.getFragments();
+		if(tmpWeldMapping.size > 0)
+			for(int i = 0; i < fragments.size; i++) {
+				MeshVertex[] faceVertices = fragments.get(i).getVertices();
+				for(int j = 0; j < 3; j++)
+					faceVertices[j] = tmpWeldMapping.get(faceVertices[j], faceVertices[j]);
+			}
 
-			for(Segment segment : cutEdges)
-				if(IntersectorPlus.intersectSegmentSegment(segment.a, segment.b,
-						firstMatch.getPosition(), secondMatch.getPosition(),
-						config.tolerance, tmpSegmentIntersection) == COLLINEAR) {
-					continue faceLoop;
-				}
+		int fragment = 0;
+		for(int i = splitter.getStart(); i < splitter.getEnd(); i++) {
+			int count = splitter.getFragmentCounts().get(i - splitter.getStart());
+			MeshFace face = faces.get(i);
 
-			if(collinearWithFirst) {
-				face.getVertices()[0] = nonMatchingA;
-				face.getVertices()[1] = secondMatch;
-				face.getVertices()[2] = nonMatchingB;
+			if(fragments.get(fragment) != face) {
+				faces.set(i, fragments.get(fragment));
+				faces.addAll(fragments, fragment + 1, count - 1);
 
-				if(face.getNormal().dot(current.getNormal()) < 0f) {
-					face.getVertices()[1] = nonMatchingB;
-					face.getVertices()[2] = secondMatch;
-				}
-			} else {
-				face.getVertices()[0] = nonMatchingA;
-				face.getVertices()[1] = firstMatch;
-				face.getVertices()[2] = nonMatchingB;
-
-				if(face.getNormal().dot(current.getNormal()) < 0f) {
-					face.getVertices()[1] = nonMatchingB;
-					face.getVertices()[2] = firstMatch;
+				if(faceTree != null) {
+					faceTree.remove(face);
+					for(int j = fragment; j < fragment + count; j++)
+						addToTree(faceTree, fragments.get(j));
 				}
 			}
-
-			faces.removeIndex(i);
-			checkForMergeWithNeighbors(face);
-			return;
+			fragment += count;
 		}
-	}
 
-	private void interpolate(MeshVertex out,
-	                         MeshVertex v1, float w1,
-	                         MeshVertex v2, float w2,
-	                         MeshVertex v3, float w3) {
-		out.getNormal().set(0f, 0f, 0f)
-				.mulAdd(v1.getNormal(), w1)
-				.mulAdd(v2.getNormal(), w2)
-				.mulAdd(v3.getNormal(), w3)
-				.nor();
+		for(Segment segment : splitter.getCutEdges())
+			addCutEdge(segment);
+		splitBoundaryFaces.addAll(splitter.getBoundaryFaces());
 
-		out.getTangent().set(0f, 0f, 0f)
-				.mulAdd(v1.getTangent(), w1)
-				.mulAdd(v2.getTangent(), w2)
-				.mulAdd(v3.getTangent(), w3)
-				.nor();
+		if(config.statistics != null) {
+			config.statistics.addIntersections(splitter.getIntersectionResults());
+			config.statistics.addTime(CSGStatistics.Phase.BOUNDARY, splitter.getBoundaryTime());
+		}
+	}
 
-		for(int i = 0; i < out.getOtherAttributes().length; i++)
-			out.getOtherAttributes()[i] = v1.getOtherAttributes()[i] * w1 +
-					v2.getOtherAttributes()[i] * w2 +
-					v3.getOtherAttributes()[i] * w3;
+	private void addToTree(AABBTree<MeshFace> tree, MeshFace face) {
+		BoundingBox bounds = face.getBounds(tmpFaceBounds);
+		tree.add(face,
+				bounds.min.x, bounds.min.y, bounds.min.z,
+				bounds.max.x, bounds.max.y, bounds.max.z);
 	}
 
-	private void processSplitTriangle(MeshFace face, float[] array, int offset) {
-		VectorUtil.setFromArray(tmpV1, array, offset);
-		VectorUtil.setFromArray(tmpV2, array, offset + 3);
-		VectorUtil.setFromArray(tmpV3, array, offset + 6);
+	private void updateInTree(AABBTree<MeshFace> tree, MeshFace face) {
+		BoundingBox bounds = face.getBounds(tmpFaceBounds);
+		tree.update(face,
+				bounds.min.x, bounds.min.y, bounds.min.z,
+				bounds.max.x, bounds.max.y, bounds.max.z);
+	}
 
-		if(tmpV1.epsilonEquals(tmpV2, config.tolerance)
-		|| tmpV1.epsilonEquals(tmpV3, config.tolerance)
-		|| tmpV2.epsilonEquals(tmpV3, config.tolerance))
+	/**
+	 * Merges pairs of faces sharing an edge into a single face when the vertex of the shared edge
+	 * that would be removed lies on the line between the two other vertices. The faces sharing
+	 * each edge are found using the {@link MeshTopology} of the faces, built once and updated as
+	 * faces are merged. Each face is merged with its
+	 * neighbours until none can be merged with it anymore; since a face only changes while it is
+	 * being merged and it then checks all of its neighbours again, no pair of mergeable faces is
+	 * left after a single pass.
+	 */
+	private void mergeFaces() {
+		if(!config.enableMerging)
 			return;
-			//throw new IllegalStateException("Triangle has duplicate points");
-
-		MeshVertex vertex1 = null, vertex2 = null, vertex3 = null;
 
-		for(MeshVertex faceVertex : face.getVertices()) {
-			if(faceVertex.getPosition().epsilonEquals(tmpV1,config. tolerance))
-				vertex1 = faceVertex;
-			if(faceVertex.getPosition().epsilonEquals(tmpV2, config.tolerance))
-				vertex2 = faceVertex;
-			if(faceVertex.getPosition().epsilonEquals(tmpV3, config.tolerance))
-				vertex3 = faceVertex;
-		}
+		topology.build(this);
 
-		for(MeshVertex addedVertex : tmpNewVertices.keySet()) {
-			if(!tmpNewVertices.get(addedVertex).getNormal().epsilonEquals(face.getNormal(),
-					config.tolerance))
+		for(int i = 0; i < faces.size; i++) {
+			MeshFace face = faces.get(i);
+			if(!topology.contains(face))
 				continue;
 
-			if(addedVertex.getPosition().epsilonEquals(tmpV1, config.tolerance))
-				vertex1 = addedVertex;
-			if(addedVertex.getPosition().epsilonEquals(tmpV2, config.tolerance))
-				vertex2 = addedVertex;
-			if(addedVertex.getPosition().epsilonEquals(tmpV3, config.tolerance))
-				vertex3 = addedVertex;
+			while(mergeWithNeighbor(face));
 		}
 
-		if(vertex1 == null) {
-			vertex1 = new MeshVertex(face.getV1().getOtherAttributes().length);
-			vertex1.getPosition().set(tmpV1);
-			Vector3 bary = face.getTriangle().getBarycentricCoordinates(tmpV1);
-			interpolate(vertex1, face.getV1(), bary.x, face.getV2(), bary.y, face.getV3(), bary.z);
-			tmpNewVertices.put(vertex1, face);
-			vertices.add(vertex1);
+		int count = 0;
+		for(int i = 0; i < faces.size; i++) {
+			MeshFace face = faces.get(i);
+			if(topology.contains(face))
+				faces.set(count++, face);
 		}
+		faces.truncate(count);
 
-		if(vertex2 == null) {
-			vertex2 = new MeshVertex(face.getV1().getOtherAttributes().length);
-			vertex2.getPosition().set(tmpV2);
-			Vector3 bary = face.getTriangle().getBarycentricCoordinates(tmpV2);
-			interpolate(vertex2, face.getV1(), bary.x, face.getV2(), bary.y, face.getV3(), bary.z);
-			tmpNewVertices.put(vertex2, face);
-			vertices.add(vertex2);
-		}
+		topology.clear();
+	}
+
+	/**
+	 * Merges the given face with the first of its neighbours it can be merged with
+	 *
+	 * @return true if the face was merged, false otherwise
+	 */
+	private boolean mergeWithNeighbor(MeshFace face) {
+		for(int j = 0; j < 3; j++) {
+			int halfEdge = topology.getFirstAlongEdge(topology.getHalfEdge(face, j));
 
-		if(vertex3 == null) {
-			vertex3 = new MeshVertex(face.getV1().getOtherAttributes().length);
-			vertex3.getPosition().set(tmpV3);
-			Vector3 bary = face.getTriangle().getBarycentricCoordinates(tmpV3);
-			interpolate(vertex3, face.getV1(), bary.x, face.getV2(), bary.y, face.getV3(), bary.z);
-			tmpNewVertices.put(vertex3, face);
-			vertices.add(vertex3);
+			for(; halfEdge != MeshTopology.NULL; halfEdge = topology.getNextAlongEdge(halfEdge)) {
+				MeshFace current = topology.getFace(halfEdge);
+				if(current == face)
+					continue;
+
+				if(!merge(face, current))
+					continue;
+
+				topology.updateFace(face);
+				topology.removeFace(current);
+				if(config.statistics != null)
+					config.statistics.addMerge();
+
+				if(faceTree != null) {
+					faceTree.remove(current);
+					updateInTree(faceTree, face);
+				}
+				return true;
+			}
 		}
+		return false;
+	}
 
-		MeshFace newFace = new MeshFace(vertex1, vertex2, vertex3);
-		toAdd.add(newFace);
+	/**
+	 * Merges the second face into the first one if they share an edge and the vertex of that
+	 * edge which is not kept lies between the two vertices that are not shared. The second face
+	 * is not modified, it is up to the caller to remove it.
+	 *
+	 * @return true if the faces were merged, false otherwise
+	 */
+	private boolean merge(MeshFace face, MeshFace current) {
+		int countMatching = 0;
+		MeshVertex firstMatch = null, secondMatch = null;
+		MeshVertex nonMatchingA = null, nonMatchingB = null;
+
+		if(face.getV1() == current.getV1()
+		|| face.getV1() == current.getV2()
+		|| face.getV1() == current.getV3()) {
+			countMatching++;
+			firstMatch = face.getV1();
+		} else
+			nonMatchingA = face.getV1();
+
+		if(face.getV2() == current.getV1()
+		|| face.getV2() == current.getV2()
+		|| face.getV2() == current.getV3()) {
+			countMatching++;
+			if(firstMatch == null)
+				firstMatch = face.getV2();
+			else
+				secondMatch = face.getV2();
+		} else
+			nonMatchingA = face.getV2();
+
+		if(face.getV3() == current.getV1()
+		|| face.getV3() == current.getV2()
+		|| face.getV3() == current.getV3()) {
+			countMatching++;
+			if(firstMatch == null)
+				firstMatch = face.getV3();
+			else
+				secondMatch = face.getV3();
+		} else
+			nonMatchingA = face.getV3();
+
+		if(countMatching == 3)
+			return false;
+			//throw new IllegalStateException("Duplicate triangles in mesh");
+
+		if(countMatching != 2)
+			return false;
+
+		if(current.getV1() != firstMatch && current.getV1() != secondMatch)
+			nonMatchingB = current.getV1();
+		else if(current.getV2() != firstMatch && current.getV2() != secondMatch)
+			nonMatchingB = current.getV2();
+		else if(current.getV3() != firstMatch && current.getV3() != secondMatch)
+			nonMatchingB = current.getV3();
+
+		boolean collinearWithFirst = IntersectorPlus.intersectSegmentSegment(
+				nonMatchingA.getPosition(), nonMatchingB.getPosition(),
+				nonMatchingA.getPosition(), firstMatch.getPosition(),
+				config.tolerance, tmpSegmentIntersection, intersectorContext) == COLLINEAR;
+
+		boolean collinearWithSecond = IntersectorPlus.intersectSegmentSegment(
+				nonMatchingA.getPosition(), nonMatchingB.getPosition(),
+				nonMatchingA.getPosition(), secondMatch.getPosition(),
+				config.tolerance, tmpSegmentIntersection, intersectorContext) == COLLINEAR;
+
+		if(!collinearWithFirst && !collinearWithSecond)
+			return false;
+
+		if(collinearWithFirst && collinearWithSecond)
+			return false;
+			//throw new IllegalStateException("Invalid 2 faces");
+
+		if(isOnCutEdge(firstMatch.getPosition(), secondMatch.getPosition()))
+			return false;
+
+		if(collinearWithFirst) {
+			face.getVertices()[0] = nonMatchingA;
+			face.getVertices()[1] = secondMatch;
+			face.getVertices()[2] = nonMatchingB;
+
+			if(face.getNormal().dot(current.getNormal()) < 0f) {
+				face.getVertices()[1] = nonMatchingB;
+				face.getVertices()[2] = secondMatch;
+			}
+		} else {
+			face.getVertices()[0] = nonMatchingA;
+			face.getVertices()[1] = firstMatch;
+			face.getVertices()[2] = nonMatchingB;
+
+			if(face.getNormal().dot(current.getNormal()) < 0f) {
+				face.getVertices()[1] = nonMatchingB;
+				face.getVertices()[2] = firstMatch;
+			}
+		}
+		return true;
 	}
 
 	public void classifyFaces(CSGMesh other) {
-		vertexStatus.clear();
-		for(MeshVertex vertex : vertices)
-			vertexStatus.put(vertex, other.computeInsideStatus(vertex.getPosition()));
-		faceStatus.clear();
-		for(MeshFace face : faces) {
-			boolean boundaryFace = getBoundaryFaces().contains(face);
+		Object event = CSGEvents.beginPhase("classifyFaces", this, other);
+		if(config.enableRegionClassification) {
+			classifyFacesByRegion(other);
+			CSGEvents.endPhase(event, this);
+			return;
+		}
+
+		classifyVertices(other);
+		clearFaceStatus();
+		for(int i = 0; i < faces.size; i++) {
+			MeshFace face = faces.get(i);
+			boolean boundaryFace = boundaryFaces.get(i);
 			CSGMesh.InsideStatus status1 = getInsideStatus(face.getV1());
 			CSGMesh.InsideStatus status2 = getInsideStatus(face.getV2());
 			CSGMesh.InsideStatus status3 = getInsideStatus(face.getV3());
@@ -400,18 +497,20 @@ public class CSGMesh implements Serializable {
 				if(!allPointsBoundary)
 					throw new IllegalStateException("Boundary face has points not on the boundary");
 
-				faceStatus.put(face, InsideStatus.BOUNDARY);
+				faceStatus[i] = InsideStatus.BOUNDARY.toCode();
 				continue;
 			}
 
 			if(allPointsBoundary) {
+				if(config.statistics != null)
+					config.statistics.addRayCasts(1);
 				InsideStatus status = other.computeInsideStatus(tmpV1.set(face.getV1().getPosition())
 						.add(face.getV2().getPosition())
 						.add(face.getV3().getPosition())
-						.scl(1f / 3f));
+						.scl(1f / 3f), rayCastContext);
 				if(status == InsideStatus.BOUNDARY)
 					status = InsideStatus.INSIDE;
-				faceStatus.put(face, status);
+				faceStatus[i] = status.toCode();
 				continue;
 			}
 
@@ -427,36 +526,339 @@ public class CSGMesh implements Serializable {
 				throw new IllegalStateException("Failure to split face, some vertices are " +
 						"in and some are out");
 
-			faceStatus.put(face, anyInside ? InsideStatus.INSIDE : InsideStatus.OUTSIDE);
+			faceStatus[i] = (anyInside ? InsideStatus.INSIDE : InsideStatus.OUTSIDE).toCode();
+		}
+		CSGEvents.endPhase(event, this);
+	}
+
+	/**
+	 * Computes the {@link InsideStatus} of every vertex against the other mesh. With a
+	 * {@link CSGConfiguration#forkJoinPool}, the vertices are classified in parallel by chunks,
+	 * each task using its own ray casting temporaries.
+	 *
+	 * @param other mesh to classify the vertices against
+	 */
+	private void classifyVertices(CSGMesh other) {
+		clearVertexStatus();
+		indexVertices();
+
+		MeshVertex[] toClassify = vertices.toArray(MeshVertex.class);
+		if(vertexStatus.length < toClassify.length)
+			vertexStatus = new byte[toClassify.length];
+		byte[] status = vertexStatus;
+		ForkJoinPool pool = config.forkJoinPool;
+
+		// builds the face tree of the other mesh before it is used by multiple threads
+		other.getFaceTree();
+		if(config.statistics != null)
+			config.statistics.addRayCasts(toClassify.length);
+
+		if(pool == null || toClassify.length <= CLASSIFY_CHUNK_SIZE)
+			new VertexClassifier(toClassify, 0, toClassify.length, other, status).invoke();
+		else {
+			Array<VertexClassifier> classifiers = new Array<>();
+			for(int start = 0; start < toClassify.length; start += CLASSIFY_CHUNK_SIZE) {
+				VertexClassifier classifier = new VertexClassifier(toClassify, start,
+						min(start + CLASSIFY_CHUNK_SIZE, toClassify.length), other, status);
+				classifiers.add(classifier);
+				pool.execute(classifier);
+			}
+
+			for(VertexClassifier classifier : classifiers)
+				classifier.join();
+		}
+	}
+
+	private void clearVertexStatus() {
+		Arrays.fill(vertexStatus, (byte)0);
+	}
+
+	/**
+	 * Clears the status of all faces and makes room for the status of each current face
+	 */
+	private void clearFaceStatus() {
+		if(faceStatus.length < faces.size)
+			faceStatus = new byte[faces.size];
+		else
+			Arrays.fill(faceStatus, (byte)0);
+	}
+
+	/**
+	 * Stores in each vertex its index in this mesh
+	 */
+	private void indexVertices() {
+		for(int i = 0; i < vertices.size; i++)
+			vertices.get(i).setIndex(i);
+	}
+
+	/**
+	 * Stores in each face its index in this mesh
+	 */
+	private void indexFaces() {
+		for(int i = 0; i < faces.size; i++)
+			faces.get(i).setIndex(i);
+	}
+
+	/**
+	 * Gets the index of a vertex in this mesh, as of the last time the vertices were indexed. The
+	 * vertex may have been indexed by another mesh since, or removed from this one, so the index
+	 * is only returned if the vertex is still at that index.
+	 *
+	 * @return index of the vertex, -1 if it is not indexed in this mesh
+	 */
+	private int indexOf(MeshVertex vertex) {
+		int index = vertex.getIndex();
+		return index >= 0 && index < vertices.size && vertices.get(index) == vertex ? index : -1;
+	}
+
+	/**
+	 * Gets the index of a face in this mesh, as of the last time the faces were indexed
+	 *
+	 * @return index of the face, -1 if it is not indexed in this mesh
+	 */
+	private int indexOf(MeshFace face) {
+		int index = face.getIndex();
+		return index >= 0 && index < faces.size && faces.get(index) == face ? index : -1;
+	}
+
+	/**
+	 * Classifies the faces by connected regions instead of classifying every vertex. Faces sharing
+	 * an edge are in the same region unless that edge lies on one of the cut edges recorded while
+	 * splitting, as the surface can only go from inside to outside the other mesh along those.
+	 * Boundary faces are not part of any region. Then a single ray is cast per region and its
+	 * status is given to all the faces of the region, casting from the vertices of the region only
+	 * if the center of each of its faces is on the boundary. Vertices are not classified in this
+	 * mode.
+	 *
+	 * @param other mesh to classify the faces against
+	 */
+	private void classifyFacesByRegion(CSGMesh other) {
+		clearVertexStatus();
+		clearFaceStatus();
+		topology.build(this);
+
+		int[] regions = new int[faces.size];
+		for(int i = 0; i < faces.size; i++)
+			regions[i] = i;
+
+		for(int i = 0; i < faces.size; i++) {
+			MeshFace face = faces.get(i);
+			if(boundaryFaces.get(i))
+				continue;
+
+			for(int j = 0; j < 3; j++) {
+				// every face along the edge is joined to the first one which is not a boundary face
+				int neighbor = firstNonBoundaryFace(topology.getHalfEdge(face, j));
+				if(neighbor == i)
+					continue;
+
+				MeshVertex a = face.getVertices()[j];
+				MeshVertex b = face.getVertices()[(j + 1) % 3];
+				if(isOnCutEdge(a.getPosition(), b.getPosition()))
+					continue;
+
+				int root1 = findRegion(regions, i);
+				int root2 = findRegion(regions, neighbor);
+				regions[max(root1, root2)] = min(root1, root2);
+			}
+		}
+		topology.clear();
+
+		InsideStatus[] regionStatus = new InsideStatus[faces.size];
+		for(int i = 0; i < faces.size; i++) {
+			MeshFace face = faces.get(i);
+			if(boundaryFaces.get(i))
+				continue;
+
+			int region = findRegion(regions, i);
+			if(regionStatus[region] != null)
+				continue;
+
+			if(config.statistics != null)
+				config.statistics.addRayCasts(1);
+			InsideStatus status = other.computeInsideStatus(tmpV1.set(face.getV1().getPosition())
+					.add(face.getV2().getPosition())
+					.add(face.getV3().getPosition())
+					.scl(1f / 3f), rayCastContext);
+
+			// a face of the region touching the other mesh does not tell on which side the
+			// region is, another face of the region will be tried
+			if(status != InsideStatus.BOUNDARY)
+				regionStatus[region] = status;
 		}
+
+		// the centers of all the faces of a region touch the other mesh, its vertices are
+		// classified instead until one is not on the boundary
+		for(int i = 0; i < faces.size; i++) {
+			if(boundaryFaces.get(i))
+				continue;
+
+			int region = findRegion(regions, i);
+			for(int j = 0; j < 3 && regionStatus[region] == null; j++) {
+				if(config.statistics != null)
+					config.statistics.addRayCasts(1);
+				InsideStatus status = other.computeInsideStatus(faces.get(i).getVertices()[j].getPosition(),
+						rayCastContext);
+				if(status != InsideStatus.BOUNDARY)
+					regionStatus[region] = status;
+			}
+		}
+
+		for(int i = 0; i < faces.size; i++) {
+			if(boundaryFaces.get(i)) {
+				faceStatus[i] = InsideStatus.BOUNDARY.toCode();
+				continue;
+			}
+
+			// the whole region is on the boundary, like when classifying vertices of a face whose
+			// points and center all are
+			InsideStatus status = regionStatus[findRegion(regions, i)];
+			faceStatus[i] = (status == null ? InsideStatus.INSIDE : status).toCode();
+		}
+	}
+
+	private static int findRegion(int[] regions, int face) {
+		while(regions[face] != face) {
+			regions[face] = regions[regions[face]];
+			face = regions[face];
+		}
+		return face;
+	}
+
+	/**
+	 * Finds the first face along the edge of the given half-edge which is not a boundary face
+	 *
+	 * @return index of the face
+	 */
+	private int firstNonBoundaryFace(int halfEdge) {
+		int current = topology.getFirstAlongEdge(halfEdge);
+		for(; current != MeshTopology.NULL; current = topology.getNextAlongEdge(current)) {
+			int face = topology.getFace(current).getIndex();
+			if(!boundaryFaces.get(face))
+				return face;
+		}
+		throw new IllegalStateException("Edge of a face which is not a boundary face has none");
+	}
+
+	/**
+	 * Checks if the segment between the given positions lies along one of the cut edges. Only the
+	 * cut edges whose bounds overlap the bounds of the segment are tested.
+	 */
+	private boolean isOnCutEdge(Vector3 start, Vector3 end) {
+		float margin = getCutEdgeMargin(start, end);
+		tmpCutEdges.clear();
+		cutEdges.query(min(start.x, end.x) - margin,
+				min(start.y, end.y) - margin,
+				min(start.z, end.z) - margin,
+				max(start.x, end.x) + margin,
+				max(start.y, end.y) + margin,
+				max(start.z, end.z) + margin,
+				tmpCutEdges,
+				tmpCutEdgeStack);
+
+		for(int i = 0; i < tmpCutEdges.size; i++) {
+			Segment segment = tmpCutEdges.get(i);
+			if(IntersectorPlus.intersectSegmentSegment(segment.a, segment.b, start, end,
+					config.tolerance, tmpSegmentIntersection, intersectorContext) == COLLINEAR) {
+				tmpCutEdges.clear();
+				return true;
+			}
+		}
+		tmpCutEdges.clear();
+		return false;
+	}
+
+	private void addCutEdge(Segment segment) {
+		// the same edge is often found from multiple fragments
+		if(cutEdges.contains(segment))
+			return;
+
+		float margin = getCutEdgeMargin(segment.a, segment.b);
+		cutEdges.add(segment,
+				min(segment.a.x, segment.b.x) - margin,
+				min(segment.a.y, segment.b.y) - margin,
+				min(segment.a.z, segment.b.z) - margin,
+				max(segment.a.x, segment.b.x) + margin,
+				max(segment.a.y, segment.b.y) + margin,
+				max(segment.a.z, segment.b.z) + margin);
+	}
+
+	/**
+	 * Segments are considered collinear by
+	 * {@link IntersectorPlus#intersectSegmentSegment(Vector3, Vector3, Vector3, Vector3, float, Vector3)}
+	 * when they are up to about the square root of the tolerance apart per unit of length, the
+	 * bounds of the segments are grown by that much so that no collinear segment is missed.
+	 */
+	private float getCutEdgeMargin(Vector3 start, Vector3 end) {
+		return (float)Math.sqrt(config.tolerance) * (1f + start.dst(end)) + config.tolerance;
 	}
 
 	/**
 	 * Computes the {@link InsideStatus} of a given position using ray intersections with the faces
-	 * of this mesh
+	 * of this mesh. The ray is cast upwards (+Y), so only the faces whose bounds contain the
+	 * position in X and Z and are above it need to be tested, those are found using the face
+	 * tree.
 	 *
 	 * @param position position to check
 	 * @return inside, outside or on the boundary
 	 */
 	public InsideStatus computeInsideStatus(Vector3 position) {
-		tmpRay.set(position.x, position.y, position.z, 0f, 1f, 0f);
+		return computeInsideStatus(position, rayCastContext);
+	}
+
+	/**
+	 * Same as {@link #computeInsideStatus(Vector3)} but only uses the temporary objects of the
+	 * provided context. Threads each using their own context can use this function concurrently
+	 * on the same mesh, as long as the mesh is not modified meanwhile.
+	 *
+	 * @param position position to check
+	 * @param ctx context holding the temporary objects
+	 * @return inside, outside or on the boundary
+	 */
+	public InsideStatus computeInsideStatus(Vector3 position, RayCastContext ctx) {
+		Ray ray = ctx.ray.set(position.x, position.y, position.z, 0f, 1f, 0f);
 		float minT = Float.POSITIVE_INFINITY;
 		boolean upFacing = false;
 
-		faceLoop:
-		for(MeshFace face : faces) {
-			if(!intersectTriangleRay(face.getTriangle(), tmpRay, config.tolerance, tmpSegment))
+		// only a volatile read once the tree is built, classifyVertices builds it beforehand
+		AABBTree<MeshFace> tree = getFaceTree();
+		BoundingBox bounds = ctx.bounds;
+		if(!tree.getBounds(bounds))
+			return InsideStatus.OUTSIDE;
+
+		// the tolerance of the ray-triangle intersection is relative to the size of the triangle,
+		// grow the column by the largest extent of the mesh to not miss any face the ray touches
+		float margin = config.tolerance * max(1f, max(bounds.getWidth(),
+				max(bounds.getHeight(), bounds.getDepth())));
+
+		if(position.x < bounds.min.x - margin || position.x > bounds.max.x + margin
+				|| position.y < bounds.min.y - margin || position.y > bounds.max.y + margin
+				|| position.z < bounds.min.z - margin || position.z > bounds.max.z + margin)
+			return InsideStatus.OUTSIDE;
+
+		Array<MeshFace> columnFaces = ctx.columnFaces;
+		columnFaces.clear();
+		tree.query(position.x - margin, position.y - margin, position.z - margin,
+				position.x + margin, Float.POSITIVE_INFINITY, position.z + margin,
+				columnFaces,
+				ctx.stack);
+
+		Segment segment = ctx.segment;
+		for(int i = 0; i < columnFaces.size; i++) {
+			Triangle triangle = columnFaces.get(i).getTriangle(ctx.triangle);
+			if(!intersectTriangleRay(triangle, ray, config.tolerance, segment,
+					ctx.intersectorContext))
 				continue;
 
-			float t = tmpRay.direction.dot(tmpSegment.a.x - tmpRay.origin.x,
-					tmpSegment.a.y - tmpRay.origin.y,
-					tmpSegment.a.z - tmpRay.origin.z);
-			float d = tmpRay.direction.dot(face.getNormal());
+			float t = ray.direction.dot(segment.a.x - ray.origin.x,
+					segment.a.y - ray.origin.y,
+					segment.a.z - ray.origin.z);
+			float d = ray.direction.dot(triangle.getNormal());
 
 			if(Math.abs(d) <= config.tolerance) {
-				float t2 = tmpRay.direction.dot(tmpSegment.b.x - tmpRay.origin.x,
-						tmpSegment.b.y - tmpRay.origin.y,
-						tmpSegment.b.z - tmpRay.origin.z);
+				float t2 = ray.direction.dot(segment.b.x - ray.origin.x,
+						segment.b.y - ray.origin.y,
+						segment.b.z - ray.origin.z);
 
 				if(Math.min(t, t2) < config.tolerance && Math.max(t, t2) > -config.tolerance)
 					return InsideStatus.BOUNDARY;
@@ -481,37 +883,81 @@ public class CSGMesh implements Serializable {
 		return upFacing ? InsideStatus.INSIDE : InsideStatus.OUTSIDE;
 	}
 
+	/**
+	 * Removes the faces with the given status, then the vertices no longer used by any face. The
+	 * kept faces are moved down in a single pass, keeping their order, and their status and
+	 * boundary flag move with them.
+	 *
+	 * @param inside true to remove the faces inside the other mesh, false for the ones outside
+	 * @param boundary true to also remove the boundary faces
+	 */
 	public void removeFaces(boolean inside, boolean boundary) {
-		for(MeshFace face : faces) {
-			InsideStatus faceS = faceStatus.get(face);
+		Object event = CSGEvents.beginPhase("removeFaces", this, null);
+		int count = 0;
+		for(int i = 0; i < faces.size; i++) {
+			MeshFace face = faces.get(i);
+			InsideStatus faceS = getInsideStatus(face);
 
-			if(faceS == InsideStatus.BOUNDARY && boundary)
-				toRemove.add(face);
-			else if(faceS == InsideStatus.INSIDE && inside)
-				toRemove.add(face);
-			else if(faceS == InsideStatus.OUTSIDE && !inside)
-				toRemove.add(face);
+			boolean remove = faceS == InsideStatus.BOUNDARY && boundary
+					|| faceS == InsideStatus.INSIDE && inside
+					|| faceS == InsideStatus.OUTSIDE && !inside;
+
+			if(remove) {
+				if(faceTree != null)
+					faceTree.remove(face);
+				continue;
+			}
+
+			if(count != i) {
+				faces.set(count, face);
+				if(face.getIndex() == i && i < faceStatus.length) {
+					face.setIndex(count);
+					faceStatus[count] = faceStatus[i];
+					boundaryFaces.set(count, boundaryFaces.get(i));
+				}
+			}
+			count++;
 		}
-		faces.removeAll(toRemove, true);
-		toRemove.clear();
+		if(count < faceStatus.length)
+			Arrays.fill(faceStatus, count, faceStatus.length, (byte)0);
+		boundaryFaces.clear(count, max(count, boundaryFaces.length()));
+		faces.truncate(count);
 
 		deleteFacelessVertices();
+		CSGEvents.endPhase(event, this);
 	}
 
+	/**
+	 * Removes the vertices not used by any face. The kept vertices are moved down in a single
+	 * pass, keeping their order, and their status moves with them.
+	 */
 	public void deleteFacelessVertices() {
+		indexVertices();
 		usedVertices.clear();
-		for(MeshFace face : faces) {
-			usedVertices.add(face.getV1());
-			usedVertices.add(face.getV2());
-			usedVertices.add(face.getV3());
-		}
+		for(MeshFace face : faces)
+			for(MeshVertex vertex : face.getVertices()) {
+				int index = indexOf(vertex);
+				if(index != -1)
+					usedVertices.set(index);
+			}
 
+		int count = 0;
 		for(int i = 0; i < vertices.size; i++) {
-			if(!usedVertices.contains(vertices.get(i))) {
-				vertices.removeIndex(i);
-				i--;
+			if(!usedVertices.get(i))
+				continue;
+
+			if(count != i) {
+				MeshVertex vertex = vertices.get(i);
+				vertices.set(count, vertex);
+				vertex.setIndex(count);
+				if(i < vertexStatus.length)
+					vertexStatus[count] = vertexStatus[i];
 			}
+			count++;
 		}
+		if(count < vertexStatus.length)
+			Arrays.fill(vertexStatus, count, vertexStatus.length, (byte)0);
+		vertices.truncate(count);
 		usedVertices.clear();
 	}
 
@@ -530,6 +976,7 @@ public class CSGMesh implements Serializable {
 	public void readFrom(InputStream stream) throws IOException {
 		vertices.clear();
 		faces.clear();
+		faceTree = null;
 
 		int attrCount = readUnsignedByte(stream);
 		VertexAttribute[] attrs = new VertexAttribute[attrCount];
@@ -579,45 +1026,55 @@ public class CSGMesh implements Serializable {
 
 		writeInt(stream, vertices.size);
 		writeByte(stream, vertices.get(0).getOtherAttributes().length);
-		vertexIndices.clear();
-		int i = 0;
+		indexVertices();
 		for(MeshVertex vertex : vertices) {
 			writeVec3(stream, vertex.getPosition());
 			writeVec3(stream, vertex.getNormal());
 			writeVec3(stream, vertex.getTangent());
 			for(float f : vertex.getOtherAttributes())
 				writeFloat(stream, f);
-			vertexIndices.put(vertex, i);
-			i++;
 		}
 
 		writeInt(stream, faces.size);
 		for(MeshFace face : faces) {
-			writeShort(stream, vertexIndices.get(face.getV1(), -1));
-			writeShort(stream, vertexIndices.get(face.getV2(), -1));
-			writeShort(stream, vertexIndices.get(face.getV3(), -1));
+			writeShort(stream, indexOf(face.getV1()));
+			writeShort(stream, indexOf(face.getV2()));
+			writeShort(stream, indexOf(face.getV3()));
 		}
-		vertexIndices.clear();
 	}
 
 	public CSGMesh cpy() {
 		Array<MeshVertex> verts = new Array<>();
 		Array<MeshFace> faces = new Array<>();
 
-		vertexIndices.clear();
-		int i = 0;
-		for(MeshVertex v : vertices) {
+		// local map so that copying does not write anything in this mesh
+		ObjectIntMap<MeshVertex> indices = new ObjectIntMap<>(vertices.size);
+		for(int i = 0; i < vertices.size; i++) {
+			MeshVertex v = vertices.get(i);
 			verts.add(new MeshVertex(v));
-			vertexIndices.put(v, i);
-			i++;
+			indices.put(v, i);
+		}
+
+		for(int i = 0; i < this.faces.size; i++) {
+			MeshFace f = this.faces.get(i);
+			faces.add(new MeshFace(verts.get(indices.get(f.getV1(), -1)),
+					verts.get(indices.get(f.getV2(), -1)),
+					verts.get(indices.get(f.getV3(), -1))));
 		}
 
-		for(MeshFace f : this.faces)
-			faces.add(new MeshFace(verts.get(vertexIndices.get(f.getV1(), -1)),
-					verts.get(vertexIndices.get(f.getV2(), -1)),
-					verts.get(vertexIndices.get(f.getV3(), -1))));
+		CSGMesh copy = new CSGMesh(verts, faces, attributes);
 
-		return new CSGMesh(verts, faces, attributes);
+		AABBTree<MeshFace> tree = faceTree;
+		if(tree != null) {
+			ObjectMap<MeshFace, MeshFace> faceMapping = new ObjectMap<>(faces.size);
+			for(int j = 0; j < faces.size; j++)
+				faceMapping.put(this.faces.get(j), faces.get(j));
+			AABBTree<MeshFace> copyTree = new AABBTree<>();
+			copyTree.set(tree, faceMapping);
+			copy.faceTree = copyTree;
+		}
+
+		return copy;
 	}
 
 	public MeshPart toMeshPart(Mesh mesh) {
@@ -637,7 +1094,7 @@ public class CSGMesh implements Serializable {
 
 		int vOffset = mesh.getNumVertices() * vertexSize;
 
-		vertexIndices.clear();
+		indexVertices();
 		for(int i = 0; i < vertices.size; i++) {
 			MeshVertex vertex = vertices.get(i);
 			buffer.position(vOffset + i * vertexSize + posOffset);
@@ -669,8 +1126,6 @@ public class CSGMesh implements Serializable {
 				for(int k = 0; k < attr.getSizeInBytes() / 4; k++)
 					buffer.put(vertex.getOtherAttributes()[j++]);
 			}
-
-			vertexIndices.put(vertex, i);
 		}
 
 		int fOffset = mesh.getNumIndices();
@@ -679,9 +1134,9 @@ public class CSGMesh implements Serializable {
 			MeshFace face = faces.get(i);
 			idxBuffer.position(fOffset + i * 3);
 
-			int idx1 = vertexIndices.get(face.getV1(), -1);
-			int idx2 = vertexIndices.get(face.getV2(), -1);
-			int idx3 = vertexIndices.get(face.getV3(), -1);
+			int idx1 = indexOf(face.getV1());
+			int idx2 = indexOf(face.getV2());
+			int idx3 = indexOf(face.getV3());
 
 			if(idx1 == -1 || idx2 == -1 || idx3 == -1)
 				throw new IllegalStateException("CSGMesh has a face refering to a vertex not in " +
@@ -692,48 +1147,54 @@ public class CSGMesh implements Serializable {
 			idxBuffer.put((short)idx2);
 			idxBuffer.put((short)idx3);
 		}
-		vertexIndices.clear();
 
 		return new MeshPart("id" + UUID.randomUUID(),
 				mesh, mesh.getNumIndices() / 3, faces.size, GL_TRIANGLES);
 	}
 
 	public Mesh toMesh() {
-		Mesh mesh = new Mesh(true, vertices.size, faces.size * 3, attributes);
-
-		FloatBuffer buffer = mesh.getVerticesBuffer(true);
-		ShortBuffer idxBuffer = mesh.getIndicesBuffer(true);
-
-		int vertexSize = mesh.getVertexSize() / 4;
+		Object event = CSGEvents.beginPhase("toMesh", this, null);
+		Mesh mesh = pack().toMesh();
+		CSGEvents.endPhase(event, null);
+		return mesh;
+	}
 
-		int posOffset = mesh.getVertexAttribute(VertexAttributes.Usage.Position).offset / 4;
-		VertexAttribute norAttr = mesh.getVertexAttribute(VertexAttributes.Usage.Normal);
-		VertexAttribute tanAttr = mesh.getVertexAttribute(VertexAttributes.Usage.Tangent);
+	/**
+	 * Packs the vertices and faces of this mesh in the layout of a libGDX {@link Mesh}. Unlike
+	 * {@link #toMesh()}, this does not need a GL context and can be done on any thread, the
+	 * resulting {@link PackedMesh} is then turned into a mesh on the GL thread.
+	 *
+	 * @return packed vertices and indices of this mesh
+	 */
+	public PackedMesh pack() {
+		int vertexSize = attributes.vertexSize / 4;
+		float[] buffer = new float[vertices.size * vertexSize];
+		short[] indices = new short[faces.size * 3];
+
+		VertexAttribute posAttr = attributes.findByUsage(VertexAttributes.Usage.Position);
+		VertexAttribute norAttr = attributes.findByUsage(VertexAttributes.Usage.Normal);
+		VertexAttribute tanAttr = attributes.findByUsage(VertexAttributes.Usage.Tangent);
+		int posOffset = posAttr.offset / 4;
 		int norOffset = norAttr == null ? -1 : norAttr.offset / 4;
 		int tanOffset = tanAttr == null ? -1 : tanAttr.offset / 4;
 
-		buffer.limit(vertices.size * vertexSize);
-		idxBuffer.limit(faces.size * 3);
-
-		vertexIndices.clear();
+		indexVertices();
 		for(int i = 0; i < vertices.size; i++) {
 			MeshVertex vertex = vertices.get(i);
-			buffer.position(i * vertexSize + posOffset);
-			buffer.put(vertex.getPosition().x);
-			buffer.put(vertex.getPosition().y);
-			buffer.put(vertex.getPosition().z);
+			int base = i * vertexSize;
+			buffer[base + posOffset] = vertex.getPosition().x;
+			buffer[base + posOffset + 1] = vertex.getPosition().y;
+			buffer[base + posOffset + 2] = vertex.getPosition().z;
 			if(norOffset != -1) {
-				buffer.position(i * vertexSize + norOffset);
-				buffer.put(vertex.getNormal().x);
-				buffer.put(vertex.getNormal().y);
-				buffer.put(vertex.getNormal().z);
+				buffer[base + norOffset] = vertex.getNormal().x;
+				buffer[base + norOffset + 1] = vertex.getNormal().y;
+				buffer[base + norOffset + 2] = vertex.getNormal().z;
 			}
 
 			if(tanOffset != -1) {
-				buffer.position(i * vertexSize + tanOffset);
-				buffer.put(vertex.getTangent().x);
-				buffer.put(vertex.getTangent().y);
-				buffer.put(vertex.getTangent().z);
+				buffer[base + tanOffset] = vertex.getTangent().x;
+				buffer[base + tanOffset + 1] = vertex.getTangent().y;
+				buffer[base + tanOffset + 2] = vertex.getTangent().z;
 			}
 
 			int j = 0;
@@ -743,47 +1204,49 @@ public class CSGMesh implements Serializable {
 				|| attr.usage == VertexAttributes.Usage.Tangent)
 					continue;
 
-				buffer.position(i * vertexSize + attr.offset / 4);
 				for(int k = 0; k < attr.getSizeInBytes() / 4; k++)
-					buffer.put(vertex.getOtherAttributes()[j++]);
+					buffer[base + attr.offset / 4 + k] = vertex.getOtherAttributes()[j++];
 			}
-
-			vertexIndices.put(vertex, i);
 		}
 
 		for(int i = 0; i < faces.size; i++) {
 			MeshFace face = faces.get(i);
-			idxBuffer.position(i * 3);
 
-			int idx1 = vertexIndices.get(face.getV1(), -1);
-			int idx2 = vertexIndices.get(face.getV2(), -1);
-			int idx3 = vertexIndices.get(face.getV3(), -1);
+			int idx1 = indexOf(face.getV1());
+			int idx2 = indexOf(face.getV2());
+			int idx3 = indexOf(face.getV3());
 
 			if(idx1 == -1 || idx2 == -1 || idx3 == -1)
 				throw new IllegalStateException("CSGMesh has a face refering to a vertex not in " +
 						"the mesh. Face #" + i + " has vertices " +
 						"#" + idx1 + ", #" + idx2 + " and #" + idx3);
 
-			idxBuffer.put((short)idx1);
-			idxBuffer.put((short)idx2);
-			idxBuffer.put((short)idx3);
+			indices[i * 3] = (short)idx1;
+			indices[i * 3 + 1] = (short)idx2;
+			indices[i * 3 + 2] = (short)idx3;
 		}
-		vertexIndices.clear();
 
-		return mesh;
+		return new PackedMesh(buffer, indices, attributes);
 	}
 
 	public InsideStatus getInsideStatus(MeshVertex vertex) {
-		return vertexStatus.get(vertex);
+		int index = indexOf(vertex);
+		return index == -1 || index >= vertexStatus.length
+				? null
+				: InsideStatus.fromCode(vertexStatus[index]);
 	}
 
 	public InsideStatus getInsideStatus(MeshFace face) {
-		return faceStatus.get(face);
+		int index = indexOf(face);
+		return index == -1 || index >= faceStatus.length
+				? null
+				: InsideStatus.fromCode(faceStatus[index]);
 	}
 
 	public void clearInsideStatus() {
-		vertexStatus.clear();
-		faceStatus.clear();
+		clearVertexStatus();
+		cutEdges.clear();
+		Arrays.fill(faceStatus, (byte)0);
 		boundaryFaces.clear();
 	}
 
@@ -791,10 +1254,89 @@ public class CSGMesh implements Serializable {
 		return vertices;
 	}
 
+	/**
+	 * Gets the faces of this mesh. If the faces are modified from outside this class once the
+	 * face tree was built, {@link #invalidateFaceTree()} must be called.
+	 *
+	 * @return faces of this mesh
+	 */
 	public Array<MeshFace> getFaces() {
 		return faces;
 	}
 
+	/**
+	 * Gets the bounding volume hierarchy of the faces of this mesh, building it if this mesh does
+	 * not have one yet. Once built, the tree is kept up to date by the operations of this mesh
+	 * (merging, splitting, removing faces) and is carried over by {@link #cpy()}, so a mesh used
+	 * in many CSG operations only builds it once. Only the first call locks this mesh, further
+	 * calls from any thread return the built tree without locking.
+	 *
+	 * @return tree of the faces of this mesh
+	 */
+	public AABBTree<MeshFace> getFaceTree() {
+		AABBTree<MeshFace> tree = faceTree;
+		if(tree != null)
+			return tree;
+
+		synchronized(this) {
+			if(faceTree == null) {
+				tree = new AABBTree<>();
+				for(MeshFace face : faces)
+					addToTree(tree, face);
+				tree.build();
+				faceTree = tree;
+			}
+			return faceTree;
+		}
+	}
+
+	/**
+	 * Computes the axis-aligned bounding box of this mesh from its face tree.
+	 *
+	 * @param out bounding box to store the bounds in
+	 * @return false if this mesh has no faces, in which case out is left untouched
+	 */
+	public boolean getBounds(BoundingBox out) {
+		return getFaceTree().getBounds(out);
+	}
+
+	/**
+	 * Checks if the bounding box of this mesh overlaps the one of the provided mesh, within the
+	 * tolerance of the configuration. When they do not overlap, no face of one mesh can intersect
+	 * or be inside the other mesh.
+	 *
+	 * @param other mesh to check against
+	 * @return true if the bounds of both meshes overlap
+	 */
+	public boolean overlaps(CSGMesh other) {
+		return overlaps(other, config.tolerance);
+	}
+
+	/**
+	 * @see #overlaps(CSGMesh)
+	 */
+	public boolean overlaps(CSGMesh other, float tol) {
+		BoundingBox bounds = new BoundingBox();
+		BoundingBox otherBounds = new BoundingBox();
+		if(!getBounds(bounds) || !other.getBounds(otherBounds))
+			return false;
+
+		return bounds.min.x <= otherBounds.max.x + tol
+				&& bounds.min.y <= otherBounds.max.y + tol
+				&& bounds.min.z <= otherBounds.max.z + tol
+				&& bounds.max.x >= otherBounds.min.x - tol
+				&& bounds.max.y >= otherBounds.min.y - tol
+				&& bounds.max.z >= otherBounds.min.z - tol;
+	}
+
+	/**
+	 * Discards the face tree of this mesh, it will be built again when next needed. Must be called
+	 * when faces or vertex positions of this mesh are modified from outside this class.
+	 */
+	public synchronized void invalidateFaceTree() {
+		faceTree = null;
+	}
+
 	public CSGConfiguration getConfig() {
 		return config;
 	}
@@ -811,12 +1353,66 @@ public class CSGMesh implements Serializable {
 		this.attributes = attributes;
 	}
 
+	/**
+	 * Checks if a face was found to intersect the other mesh in a coplanar way by the last split
+	 *
+	 * @param face face of this mesh
+	 * @return true if the face is a boundary face, false otherwise
+	 */
+	public boolean isBoundaryFace(MeshFace face) {
+		int index = indexOf(face);
+		return index != -1 && boundaryFaces.get(index);
+	}
+
+	/**
+	 * Gets the faces found to intersect the other mesh in a coplanar way by the last split. The
+	 * set is created from the boundary faces of this mesh on each call, modifying it does not
+	 * modify this mesh.
+	 *
+	 * @return new set of the boundary faces of this mesh
+	 * @deprecated creates a set on each call, use {@link #isBoundaryFace(MeshFace)} instead
+	 */
+	@Deprecated
 	public HashSet<MeshFace> getBoundaryFaces() {
-		return boundaryFaces;
+		HashSet<MeshFace> set = new HashSet<>();
+		for(int i = boundaryFaces.nextSetBit(0); i != -1 && i < faces.size; i = boundaryFaces.nextSetBit(i + 1))
+			set.add(faces.get(i));
+		return set;
 	}
 
 	public enum InsideStatus {
-		INSIDE, BOUNDARY, OUTSIDE
+		INSIDE, BOUNDARY, OUTSIDE;
+
+		private static final InsideStatus[] VALUES = values();
+
+		/**
+		 * @return code of this status in status arrays, never 0 as 0 stands for no status
+		 */
+		public byte toCode() {
+			return (byte)(ordinal() + 1);
+		}
+
+		/**
+		 * @param code code of a status, or 0
+		 * @return the status with the given code, null for 0
+		 */
+		public static InsideStatus fromCode(byte code) {
+			return code == 0 ? null : VALUES[code - 1];
+		}
+	}
+
+	/**
+	 * Temporary objects used by {@link #computeInsideStatus(Vector3, RayCastContext)}. Each thread
+	 * computing inside statuses concurrently must use its own context.
+	 */
+	public static class RayCastContext {
+		private final Ray ray = new Ray();
+		private final SegmentPlus segment = new SegmentPlus();
+		private final Triangle triangle = new Triangle();
+		private final BoundingBox bounds = new BoundingBox();
+		private final Array<MeshFace> columnFaces = new Array<>();
+		private final IntArray stack = new IntArray();
+		private final IntersectorPlus.Context intersectorContext = new IntersectorPlus.Context();
 	}
 
 	public static CSGMesh fromMeshPart(MeshPart meshPart) {
@@ -874,6 +1470,7 @@ public class CSGMesh implements Serializable {
 	}
 
 	public static CSGMesh fromMesh(Mesh mesh) {
+		Object event = CSGEvents.beginPhase("fromMesh", null, null);
 		Array<MeshVertex> vertices = new Array<>(mesh.getNumVertices());
 		Array<MeshFace> faces = new Array<>(mesh.getNumIndices() / 3);
 
@@ -902,7 +1499,9 @@ public class CSGMesh implements Serializable {
 			faces.add(face);
 		}
 
-		return new CSGMesh(vertices, faces, mesh.getVertexAttributes());
+		CSGMesh result = new CSGMesh(vertices, faces, mesh.getVertexAttributes());
+		CSGEvents.endPhase(event, result);
+		return result;
 	}
 
 
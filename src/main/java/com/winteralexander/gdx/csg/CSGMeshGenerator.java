@@ -0,0 +1,605 @@
+package com.winteralexander.gdx.csg;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+
+/**
+ * Generates closed {@link CSGMesh}es of common shapes directly, without building a libGDX
+ * {@link com.badlogic.gdx.graphics.Mesh}, so they can be created without a GL context. Faces are
+ * counterclockwise seen from outside of the shape.
+ * <p>
+ * Vertices are created with the provided attributes, which must have a position. Normals,
+ * tangents and texture coordinates are set when the attributes have them, colors are white and
+ * any other attribute is 0. Vertices are shared between faces unless they need different
+ * normals, or different texture coordinates along the seam of a shape wrapping around itself
+ * when the attributes have texture coordinates.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class CSGMeshGenerator {
+	private CSGMeshGenerator() {}
+
+	/**
+	 * Creates a box with each side divided in a grid of quads, with 12 * divisions^2 faces
+	 *
+	 * @param center center of the box
+	 * @param width size of the box along X
+	 * @param height size of the box along Y
+	 * @param depth size of the box along Z
+	 * @param divisions number of quads along each edge of each side
+	 * @param attributes vertex attributes of the mesh
+	 * @return box mesh
+	 */
+	public static CSGMesh box(Vector3 center,
+	                          float width,
+	                          float height,
+	                          float depth,
+	                          int divisions,
+	                          VertexAttributes attributes) {
+		ensureNotNull(center, "center");
+		if(!(width > 0f) || !(height > 0f) || !(depth > 0f))
+			throw new IllegalArgumentException("Size of the box must be positive");
+		if(divisions < 1)
+			throw new IllegalArgumentException("divisions must be at least 1");
+
+		VertexFactory factory = new VertexFactory(attributes);
+		Array<MeshVertex> vertices = new Array<>();
+		Array<MeshFace> faces = new Array<>();
+		Vector3 halfSize = new Vector3(width, height, depth).scl(0.5f);
+		Vector3 position = new Vector3();
+
+		for(int axis = 0; axis < 3; axis++) {
+			for(int sign = -1; sign <= 1; sign += 2) {
+				Vector3 normal = new Vector3(axis == 0 ? sign : 0f, axis == 1 ? sign : 0f, axis == 2 ? sign : 0f);
+				Vector3 u = new Vector3(normal.y, normal.z, normal.x);
+				Vector3 v = new Vector3(normal).crs(u);
+
+				MeshVertex[][] grid = new MeshVertex[divisions + 1][divisions + 1];
+				for(int i = 0; i <= divisions; i++) {
+					for(int j = 0; j <= divisions; j++) {
+						float s = (float)i / divisions;
+						float t = (float)j / divisions;
+						position.set(normal)
+								.mulAdd(u, 2f * s - 1f)
+								.mulAdd(v, 2f * t - 1f)
+								.scl(halfSize)
+								.add(center);
+						grid[i][j] = factory.create(position, normal, u, s, t);
+						vertices.add(grid[i][j]);
+					}
+				}
+
+				for(int i = 0; i < divisions; i++)
+					for(int j = 0; j < divisions; j++)
+						addQuad(faces, grid[i][j], grid[i + 1][j], grid[i + 1][j + 1], grid[i][j + 1], normal);
+			}
+		}
+		return new CSGMesh(vertices, faces, attributes);
+	}
+
+	/**
+	 * Creates a UV sphere with its poles along Y, with segments * (2 * rings - 2) faces
+	 *
+	 * @param center center of the sphere
+	 * @param radius radius of the sphere
+	 * @param segments number of divisions around Y, at least 3
+	 * @param rings number of divisions from pole to pole, at least 2
+	 * @param attributes vertex attributes of the mesh
+	 * @return sphere mesh
+	 */
+	public static CSGMesh sphere(Vector3 center,
+	                             float radius,
+	                             int segments,
+	                             int rings,
+	                             VertexAttributes attributes) {
+		ensureNotNull(center, "center");
+		if(!(radius > 0f))
+			throw new IllegalArgumentException("radius must be positive");
+		if(segments < 3 || rings < 2)
+			throw new IllegalArgumentException("Sphere needs at least 3 segments and 2 rings");
+
+		VertexFactory factory = new VertexFactory(attributes);
+		boolean seams = factory.hasTextureCoordinates();
+		int columns = seams ? segments + 1 : segments;
+
+		Array<MeshVertex> vertices = new Array<>();
+		Array<MeshFace> faces = new Array<>();
+		Vector3 normal = new Vector3(), tangent = new Vector3(), position = new Vector3();
+
+		MeshVertex[][] grid = new MeshVertex[rings + 1][columns];
+		for(int i = 0; i <= rings; i++) {
+			for(int j = 0; j < columns; j++) {
+				// without seams the poles are a single vertex
+				if(!seams && (i == 0 || i == rings) && j > 0) {
+					grid[i][j] = grid[i][0];
+					continue;
+				}
+
+				float theta = MathUtils.PI * i / rings;
+				float phi = MathUtils.PI2 * j / segments;
+				if(i == 0 || i == rings)
+					normal.set(0f, i == 0 ? 1f : -1f, 0f);
+				else
+					normal.set(MathUtils.sin(theta) * MathUtils.cos(phi),
+							MathUtils.cos(theta),
+							MathUtils.sin(theta) * MathUtils.sin(phi));
+				tangent.set(-MathUtils.sin(phi), 0f, MathUtils.cos(phi));
+				position.set(center).mulAdd(normal, radius);
+
+				grid[i][j] = factory.create(position, normal, tangent, (float)j / segments, (float)i / rings);
+				vertices.add(grid[i][j]);
+			}
+		}
+
+		for(int i = 0; i < rings; i++) {
+			for(int j = 0; j < segments; j++) {
+				int next = seams ? j + 1 : (j + 1) % segments;
+				// the triangles touching the poles are the only ones of their quad
+				if(i != 0)
+					addTriangle(faces, grid[i][j], grid[i][next], grid[i + 1][next]);
+				if(i != rings - 1)
+					addTriangle(faces, grid[i][j], grid[i + 1][next], grid[i + 1][j]);
+			}
+		}
+		return new CSGMesh(vertices, faces, attributes);
+	}
+
+	/**
+	 * Creates a sphere by subdividing an icosahedron, with 20 * 4^subdivisions faces of about the
+	 * same size. Texture coordinates are the spherical coordinates of each vertex, they are not
+	 * split along a seam.
+	 *
+	 * @param center center of the sphere
+	 * @param radius radius of the sphere
+	 * @param subdivisions number of times each face of the icosahedron is divided in 4
+	 * @param attributes vertex attributes of the mesh
+	 * @return sphere mesh
+	 */
+	public static CSGMesh icosphere(Vector3 center,
+	                                float radius,
+	                                int subdivisions,
+	                                VertexAttributes attributes) {
+		ensureNotNull(center, "center");
+		if(!(radius > 0f))
+			throw new IllegalArgumentException("radius must be positive");
+		if(subdivisions < 0)
+			throw new IllegalArgumentException("subdivisions must be positive or zero");
+
+		VertexFactory factory = new VertexFactory(attributes);
+		float t = (1f + (float)Math.sqrt(5.0)) / 2f;
+		Array<Vector3> directions = new Array<>();
+		float[] icosahedron = new float[] {
+				-1f, t, 0f,   1f, t, 0f,   -1f, -t, 0f,   1f, -t, 0f,
+				0f, -1f, t,   0f, 1f, t,   0f, -1f, -t,   0f, 1f, -t,
+				t, 0f, -1f,   t, 0f, 1f,   -t, 0f, -1f,   -t, 0f, 1f
+		};
+		for(int i = 0; i < icosahedron.length; i += 3)
+			directions.add(new Vector3(icosahedron[i], icosahedron[i + 1], icosahedron[i + 2]).nor());
+
+		IntArray triangles = new IntArray(new int[] {
+				0, 11, 5,   0, 5, 1,   0, 1, 7,   0, 7, 10,   0, 10, 11,
+				1, 5, 9,    5, 11, 4,  11, 10, 2, 10, 7, 6,   7, 1, 8,
+				3, 9, 4,    3, 4, 2,   3, 2, 6,   3, 6, 8,    3, 8, 9,
+				4, 9, 5,    2, 4, 11,  6, 2, 10,  8, 6, 7,    9, 8, 1
+		});
+
+		// the middle of each edge is shared by the 2 faces of the edge
+		LongMap<Integer> middles = new LongMap<>();
+		for(int s = 0; s < subdivisions; s++) {
+			IntArray subdivided = new IntArray(triangles.size * 4);
+			middles.clear();
+			for(int i = 0; i < triangles.size; i += 3) {
+				int a = triangles.get(i), b = triangles.get(i + 1), c = triangles.get(i + 2);
+				int ab = middle(directions, middles, a, b);
+				int bc = middle(directions, middles, b, c);
+				int ca = middle(directions, middles, c, a);
+				subdivided.addAll(a, ab, ca);
+				subdivided.addAll(b, bc, ab);
+				subdivided.addAll(c, ca, bc);
+				subdivided.addAll(ab, bc, ca);
+			}
+			triangles = subdivided;
+		}
+
+		Array<MeshVertex> vertices = new Array<>(directions.size);
+		Vector3 tangent = new Vector3(), position = new Vector3();
+		for(Vector3 normal : directions) {
+			tangent.set(-normal.z, 0f, normal.x);
+			if(tangent.isZero(1e-6f))
+				tangent.set(1f, 0f, 0f);
+			tangent.nor();
+			position.set(center).mulAdd(normal, radius);
+
+			float u = 0.5f + MathUtils.atan2(normal.z, normal.x) / MathUtils.PI2;
+			float v = (float)Math.acos(MathUtils.clamp(normal.y, -1f, 1f)) / MathUtils.PI;
+			vertices.add(factory.create(position, normal, tangent, u, v));
+		}
+
+		Array<MeshFace> faces = new Array<>(triangles.size / 3);
+		for(int i = 0; i < triangles.size; i += 3)
+			addTriangle(faces, vertices.get(triangles.get(i)),
+					vertices.get(triangles.get(i + 1)),
+					vertices.get(triangles.get(i + 2)));
+		return new CSGMesh(vertices, faces, attributes);
+	}
+
+	/**
+	 * Creates a cylinder along Y with flat caps, with 4 * segments faces
+	 *
+	 * @param center center of the cylinder
+	 * @param radius radius of the cylinder
+	 * @param height height of the cylinder along Y
+	 * @param segments number of divisions around Y, at least 3
+	 * @param attributes vertex attributes of the mesh
+	 * @return cylinder mesh
+	 */
+	public static CSGMesh cylinder(Vector3 center,
+	                               float radius,
+	                               float height,
+	                               int segments,
+	                               VertexAttributes attributes) {
+		ensureNotNull(center, "center");
+		if(!(radius > 0f) || !(height > 0f))
+			throw new IllegalArgumentException("Size of the cylinder must be positive");
+		if(segments < 3)
+			throw new IllegalArgumentException("Cylinder needs at least 3 segments");
+
+		VertexFactory factory = new VertexFactory(attributes);
+		boolean seams = factory.hasTextureCoordinates();
+		int columns = seams ? segments + 1 : segments;
+
+		Array<MeshVertex> vertices = new Array<>();
+		Array<MeshFace> faces = new Array<>();
+		Vector3 normal = new Vector3(), tangent = new Vector3(), position = new Vector3();
+
+		// the side and the caps have different normals, they do not share their vertices
+		MeshVertex[][] side = new MeshVertex[2][columns];
+		MeshVertex[][] caps = new MeshVertex[2][segments];
+		MeshVertex[] capCenters = new MeshVertex[2];
+		for(int i = 0; i < 2; i++) {
+			float y = i == 0 ? height / 2f : -height / 2f;
+			Vector3 capNormal = new Vector3(0f, i == 0 ? 1f : -1f, 0f);
+			tangent.set(1f, 0f, 0f);
+
+			position.set(center).add(0f, y, 0f);
+			capCenters[i] = factory.create(position, capNormal, tangent, 0.5f, 0.5f);
+			vertices.add(capCenters[i]);
+
+			for(int j = 0; j < columns; j++) {
+				float phi = MathUtils.PI2 * j / segments;
+				float cos = MathUtils.cos(phi), sin = MathUtils.sin(phi);
+				normal.set(cos, 0f, sin);
+				position.set(center).add(cos * radius, y, sin * radius);
+
+				tangent.set(-sin, 0f, cos);
+				side[i][j] = factory.create(position, normal, tangent, (float)j / segments, i);
+				vertices.add(side[i][j]);
+
+				if(j == segments)
+					continue;
+
+				tangent.set(1f, 0f, 0f);
+				caps[i][j] = factory.create(position, capNormal, tangent, 0.5f + cos / 2f, 0.5f + sin / 2f);
+				vertices.add(caps[i][j]);
+			}
+		}
+
+		for(int j = 0; j < segments; j++) {
+			int next = seams ? j + 1 : (j + 1) % segments;
+			addQuad(faces, side[0][j], side[0][next], side[1][next], side[1][j], null);
+			addTriangle(faces, capCenters[0], caps[0][j], caps[0][(j + 1) % segments]);
+			addTriangle(faces, capCenters[1], caps[1][j], caps[1][(j + 1) % segments]);
+		}
+		return new CSGMesh(vertices, faces, attributes);
+	}
+
+	/**
+	 * Creates a torus around Y, with 2 * majorSegments * minorSegments faces
+	 *
+	 * @param center center of the torus
+	 * @param majorRadius distance from the center to the middle of the tube
+	 * @param minorRadius radius of the tube, smaller than the major radius
+	 * @param majorSegments number of divisions around Y, at least 3
+	 * @param minorSegments number of divisions around the tube, at least 3
+	 * @param attributes vertex attributes of the mesh
+	 * @return torus mesh
+	 */
+	public static CSGMesh torus(Vector3 center,
+	                            float majorRadius,
+	                            float minorRadius,
+	                            int majorSegments,
+	                            int minorSegments,
+	                            VertexAttributes attributes) {
+		ensureNotNull(center, "center");
+		if(!(minorRadius > 0f) || !(majorRadius > minorRadius))
+			throw new IllegalArgumentException("Radii of the torus must be positive and the " +
+					"minor radius smaller than the major radius");
+		if(majorSegments < 3 || minorSegments < 3)
+			throw new IllegalArgumentException("Torus needs at least 3 segments each way");
+
+		VertexFactory factory = new VertexFactory(attributes);
+		boolean seams = factory.hasTextureCoordinates();
+		int columns = seams ? majorSegments + 1 : majorSegments;
+		int rows = seams ? minorSegments + 1 : minorSegments;
+
+		Array<MeshVertex> vertices = new Array<>();
+		Array<MeshFace> faces = new Array<>();
+		Vector3 normal = new Vector3(), tangent = new Vector3(), position = new Vector3();
+
+		MeshVertex[][] grid = new MeshVertex[rows][columns];
+		for(int i = 0; i < rows; i++) {
+			float psi = MathUtils.PI2 * i / minorSegments;
+			for(int j = 0; j < columns; j++) {
+				float phi = MathUtils.PI2 * j / majorSegments;
+				float cosPhi = MathUtils.cos(phi), sinPhi = MathUtils.sin(phi);
+				normal.set(MathUtils.cos(psi) * cosPhi, MathUtils.sin(psi), MathUtils.cos(psi) * sinPhi);
+				tangent.set(-sinPhi, 0f, cosPhi);
+				position.set(center).add(cosPhi * majorRadius, 0f, sinPhi * majorRadius)
+						.mulAdd(normal, minorRadius);
+
+				grid[i][j] = factory.create(position, normal, tangent,
+						(float)j / majorSegments, (float)i / minorSegments);
+				vertices.add(grid[i][j]);
+			}
+		}
+
+		for(int i = 0; i < minorSegments; i++) {
+			int nextRow = seams ? i + 1 : (i + 1) % minorSegments;
+			for(int j = 0; j < majorSegments; j++) {
+				int next = seams ? j + 1 : (j + 1) % majorSegments;
+				addQuad(faces, grid[i][j], grid[i][next], grid[nextRow][next], grid[nextRow][j], null);
+			}
+		}
+		return new CSGMesh(vertices, faces, attributes);
+	}
+
+	/**
+	 * Creates a block of terrain, flat at the bottom and with a surface of smooth random hills at
+	 * the top, with 4 * divisions * (divisions + 2) faces. The top surface has smooth normals, the other sides
+	 * are flat.
+	 *
+	 * @param center center of the block, without the hills
+	 * @param width size of the block along X
+	 * @param depth size of the block along Z
+	 * @param height height of the block along Y without the hills
+	 * @param divisions number of quads along each edge of each side
+	 * @param amplitude largest distance by which the hills move the top surface up or down,
+	 * smaller than the height
+	 * @param seed seed of the hills, the same seed always gives the same terrain
+	 * @param attributes vertex attributes of the mesh
+	 * @return terrain mesh
+	 */
+	public static CSGMesh terrain(Vector3 center,
+	                              float width,
+	                              float depth,
+	                              float height,
+	                              int divisions,
+	                              float amplitude,
+	                              int seed,
+	                              VertexAttributes attributes) {
+		ensureNotNull(center, "center");
+		if(!(width > 0f) || !(depth > 0f) || !(height > 0f))
+			throw new IllegalArgumentException("Size of the terrain must be positive");
+		if(!(amplitude >= 0f) || !(amplitude < height))
+			throw new IllegalArgumentException("amplitude must be positive and smaller than height");
+		if(divisions < 1)
+			throw new IllegalArgumentException("divisions must be at least 1");
+
+		VertexFactory factory = new VertexFactory(attributes);
+		Array<MeshVertex> vertices = new Array<>();
+		Array<MeshFace> faces = new Array<>();
+		Vector3 normal = new Vector3(), tangent = new Vector3(), position = new Vector3();
+
+		float bottom = center.y - height / 2f;
+		float[][] heights = new float[divisions + 1][divisions + 1];
+		for(int i = 0; i <= divisions; i++)
+			for(int j = 0; j <= divisions; j++)
+				heights[i][j] = terrainHeight(center, height, amplitude, seed, (float)i / divisions, (float)j / divisions);
+
+		MeshVertex[][] top = new MeshVertex[divisions + 1][divisions + 1];
+		MeshVertex[][] base = new MeshVertex[divisions + 1][divisions + 1];
+		Vector3 up = new Vector3(0f, 1f, 0f), down = new Vector3(0f, -1f, 0f);
+		float step = 1f / divisions;
+		for(int i = 0; i <= divisions; i++) {
+			for(int j = 0; j <= divisions; j++) {
+				float s = i * step, t = j * step;
+				float x = center.x + (s - 0.5f) * width;
+				float z = center.z + (t - 0.5f) * depth;
+
+				// normal from the slope of the surface around the vertex
+				float slopeX = (terrainHeight(center, height, amplitude, seed, s + step, t)
+						- terrainHeight(center, height, amplitude, seed, s - step, t)) / (2f * step * width);
+				float slopeZ = (terrainHeight(center, height, amplitude, seed, s, t + step)
+						- terrainHeight(center, height, amplitude, seed, s, t - step)) / (2f * step * depth);
+				normal.set(-slopeX, 1f, -slopeZ).nor();
+				tangent.set(1f, slopeX, 0f).nor();
+
+				top[i][j] = factory.create(position.set(x, heights[i][j], z), normal, tangent, s, t);
+				vertices.add(top[i][j]);
+
+				tangent.set(1f, 0f, 0f);
+				base[i][j] = factory.create(position.set(x, bottom, z), down, tangent, s, t);
+				vertices.add(base[i][j]);
+			}
+		}
+
+		for(int i = 0; i < divisions; i++) {
+			for(int j = 0; j < divisions; j++) {
+				addQuad(faces, top[i][j], top[i + 1][j], top[i + 1][j + 1], top[i][j + 1], up);
+				addQuad(faces, base[i][j], base[i + 1][j], base[i + 1][j + 1], base[i][j + 1], down);
+			}
+		}
+
+		// each side joins an edge of the top surface to the same edge of the bottom
+		MeshVertex[] sideTop = new MeshVertex[divisions + 1];
+		MeshVertex[] sideBottom = new MeshVertex[divisions + 1];
+		for(int side = 0; side < 4; side++) {
+			boolean alongX = side < 2;
+			int edge = side % 2 == 0 ? 0 : divisions;
+			normal.set(alongX ? 0f : side % 2 == 0 ? -1f : 1f, 0f, alongX ? side % 2 == 0 ? -1f : 1f : 0f);
+			tangent.set(alongX ? 1f : 0f, 0f, alongX ? 0f : 1f);
+
+			for(int k = 0; k <= divisions; k++) {
+				MeshVertex topVertex = alongX ? top[k][edge] : top[edge][k];
+				MeshVertex bottomVertex = alongX ? base[k][edge] : base[edge][k];
+				float s = (float)k / divisions;
+				sideTop[k] = factory.create(topVertex.getPosition(), normal, tangent, s, 1f);
+				sideBottom[k] = factory.create(bottomVertex.getPosition(), normal, tangent, s, 0f);
+				vertices.add(sideTop[k]);
+				vertices.add(sideBottom[k]);
+			}
+
+			for(int k = 0; k < divisions; k++)
+				addQuad(faces, sideBottom[k], sideBottom[k + 1], sideTop[k + 1], sideTop[k], normal);
+		}
+		return new CSGMesh(vertices, faces, attributes);
+	}
+
+	/**
+	 * Adds the 2 triangles of a quad, split along the diagonal from the first to the third vertex
+	 *
+	 * @param outward direction the faces must face, null to use the normals of the vertices
+	 */
+	private static void addQuad(Array<MeshFace> faces,
+	                            MeshVertex v1,
+	                            MeshVertex v2,
+	                            MeshVertex v3,
+	                            MeshVertex v4,
+	                            Vector3 outward) {
+		addTriangle(faces, v1, v2, v3, outward);
+		addTriangle(faces, v1, v3, v4, outward);
+	}
+
+	private static void addTriangle(Array<MeshFace> faces, MeshVertex v1, MeshVertex v2, MeshVertex v3) {
+		addTriangle(faces, v1, v2, v3, null);
+	}
+
+	/**
+	 * Adds a triangle, with its vertices in the order making it face the given direction
+	 *
+	 * @param outward direction the face must face, null to use the normals of the vertices
+	 */
+	private static void addTriangle(Array<MeshFace> faces,
+	                                MeshVertex v1,
+	                                MeshVertex v2,
+	                                MeshVertex v3,
+	                                Vector3 outward) {
+		MeshFace face = new MeshFace(v1, v2, v3);
+		float facing = outward != null
+				? face.getNormal().dot(outward)
+				: face.getNormal().dot(v1.getNormal()) + face.getNormal().dot(v2.getNormal())
+						+ face.getNormal().dot(v3.getNormal());
+		faces.add(facing < 0f ? new MeshFace(v1, v3, v2) : face);
+	}
+
+	/**
+	 * Gets the index of the vertex in the middle of an edge of the subdivided icosahedron,
+	 * creating it if it does not exist yet
+	 */
+	private static int middle(Array<Vector3> directions, LongMap<Integer> middles, int a, int b) {
+		long key = ((long)Math.min(a, b) << 32) | Math.max(a, b);
+		Integer index = middles.get(key);
+		if(index != null)
+			return index;
+
+		directions.add(new Vector3(directions.get(a)).add(directions.get(b)).nor());
+		middles.put(key, directions.size - 1);
+		return directions.size - 1;
+	}
+
+	/**
+	 * Height of the top surface of a terrain at the given position, in fractions of its width and
+	 * depth
+	 */
+	private static float terrainHeight(Vector3 center, float height, float amplitude, int seed, float s, float t) {
+		// a few octaves of value noise, 4 hills across at the largest scale
+		float noise = 0f, scale = 1f, total = 0f;
+		float frequency = 4f;
+		for(int octave = 0; octave < 4; octave++) {
+			noise += valueNoise(s * frequency, t * frequency, seed + octave) * scale;
+			total += scale;
+			scale /= 2f;
+			frequency *= 2f;
+		}
+		return center.y + height / 2f + amplitude * noise / total;
+	}
+
+	/**
+	 * Value noise between -1 and 1, smoothly interpolated between random values at integer
+	 * coordinates
+	 */
+	private static float valueNoise(float x, float y, int seed) {
+		int x0 = MathUtils.floor(x), y0 = MathUtils.floor(y);
+		float fx = x - x0, fy = y - y0;
+		fx = fx * fx * (3f - 2f * fx);
+		fy = fy * fy * (3f - 2f * fy);
+
+		float top = MathUtils.lerp(latticeValue(x0, y0, seed), latticeValue(x0 + 1, y0, seed), fx);
+		float bottom = MathUtils.lerp(latticeValue(x0, y0 + 1, seed), latticeValue(x0 + 1, y0 + 1, seed), fx);
+		return MathUtils.lerp(top, bottom, fy);
+	}
+
+	private static float latticeValue(int x, int y, int seed) {
+		int hash = x * 374761393 + y * 668265263 + seed * 1442695041;
+		hash = (hash ^ (hash >>> 13)) * 1274126177;
+		hash ^= hash >>> 16;
+		return (hash & 0xFFFFFF) / (float)0x7FFFFF - 1f;
+	}
+
+	/**
+	 * Creates vertices with the attributes of a mesh, filling the attributes other than the
+	 * position, normal and tangent in the layout of {@link MeshVertex#getOtherAttributes()}
+	 */
+	private static class VertexFactory {
+		private final float[] otherAttributes;
+		private final IntArray textureCoordinates = new IntArray();
+
+		public VertexFactory(VertexAttributes attributes) {
+			ensureNotNull(attributes, "attributes");
+			if(attributes.findByUsage(Usage.Position) == null)
+				throw new IllegalArgumentException("attributes must have a position");
+
+			FloatArray values = new FloatArray();
+			for(VertexAttribute attribute : attributes) {
+				if(attribute.usage == Usage.Position
+						|| attribute.usage == Usage.Normal
+						|| attribute.usage == Usage.Tangent)
+					continue;
+
+				if(attribute.usage == Usage.TextureCoordinates)
+					textureCoordinates.add(values.size);
+
+				for(int i = 0; i < attribute.getSizeInBytes() / 4; i++)
+					values.add(attribute.usage == Usage.ColorPacked ? Color.WHITE_FLOAT_BITS
+							: attribute.usage == Usage.ColorUnpacked ? 1f
+							: 0f);
+			}
+			otherAttributes = values.toArray();
+		}
+
+		public MeshVertex create(Vector3 position, Vector3 normal, Vector3 tangent, float u, float v) {
+			float[] other = otherAttributes.clone();
+			for(int i = 0; i < textureCoordinates.size; i++) {
+				other[textureCoordinates.get(i)] = u;
+				other[textureCoordinates.get(i) + 1] = v;
+			}
+			return new MeshVertex(position.cpy(), normal.cpy(), tangent.cpy(), other);
+		}
+
+		public boolean hasTextureCoordinates() {
+			return textureCoordinates.size > 0;
+		}
+	}
+}
@@ -0,0 +1,257 @@
+package com.winteralexander.gdx.csg;
+
+import com.winteralexander.gdx.csg.IntersectorPlus.TriangleIntersectionResult;
+
+import java.util.Arrays;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+
+/**
+ * Statistics of a CSG operation, filled in by the operations of {@link CSGUtil} when set in
+ * {@link CSGConfiguration#statistics}. Each operation clears the statistics before filling them,
+ * so they describe the last operation performed with the configuration. When no statistics are
+ * set, nothing is measured nor counted.
+ * <p>
+ * Statistics are not thread safe, operations running concurrently must each use their own.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class CSGStatistics {
+	private final long[] phaseTimes = new long[Phase.values().length];
+	private final long[] intersectionResults = new long[TriangleIntersectionResult.values().length];
+
+	private int firstFaces, firstVertices;
+	private int secondFaces, secondVertices;
+	private int resultFaces, resultVertices;
+	private long rayCasts;
+	private int merges;
+
+	public void clear() {
+		Arrays.fill(phaseTimes, 0L);
+		Arrays.fill(intersectionResults, 0L);
+		firstFaces = 0;
+		firstVertices = 0;
+		secondFaces = 0;
+		secondVertices = 0;
+		resultFaces = 0;
+		resultVertices = 0;
+		rayCasts = 0L;
+		merges = 0;
+	}
+
+	/**
+	 * Records the sizes of the operands of the operation
+	 */
+	public void setInput(CSGMesh first, CSGMesh second) {
+		ensureNotNull(first, "first");
+		ensureNotNull(second, "second");
+
+		firstFaces = first.getFaces().size;
+		firstVertices = first.getVertices().size;
+		secondFaces = second.getFaces().size;
+		secondVertices = second.getVertices().size;
+	}
+
+	/**
+	 * Records the size of the result of the operation
+	 */
+	public void setResult(CSGMesh result) {
+		ensureNotNull(result, "result");
+
+		resultFaces = result.getFaces().size;
+		resultVertices = result.getVertices().size;
+	}
+
+	/**
+	 * Adds the time elapsed since the given start to a phase
+	 *
+	 * @param phase phase to add the time to
+	 * @param start value of {@link System#nanoTime()} when the phase started
+	 * @return current value of {@link System#nanoTime()}, to start the next phase from
+	 */
+	public long endPhase(Phase phase, long start) {
+		long time = System.nanoTime();
+		phaseTimes[phase.ordinal()] += time - start;
+		return time;
+	}
+
+	/**
+	 * @param phase phase to add the time to
+	 * @param nanos time to add, in nanoseconds
+	 */
+	public void addTime(Phase phase, long nanos) {
+		phaseTimes[phase.ordinal()] += nanos;
+	}
+
+	/**
+	 * Counts a test of a pair of faces
+	 *
+	 * @param result result of the test of the pair
+	 */
+	public void addIntersection(TriangleIntersectionResult result) {
+		intersectionResults[result.ordinal()]++;
+	}
+
+	/**
+	 * Counts tests of pairs of faces
+	 *
+	 * @param counts number of tests for each result, indexed by the ordinal of the result
+	 */
+	public void addIntersections(long[] counts) {
+		if(counts.length != intersectionResults.length)
+			throw new IllegalArgumentException("counts must have one entry per result");
+
+		for(int i = 0; i < counts.length; i++)
+			intersectionResults[i] += counts[i];
+	}
+
+	public void addRayCasts(int count) {
+		rayCasts += count;
+	}
+
+	public void addMerge() {
+		merges++;
+	}
+
+	/**
+	 * @param phase phase of the operation
+	 * @return time spent in the phase, in nanoseconds
+	 */
+	public long getTime(Phase phase) {
+		return phaseTimes[phase.ordinal()];
+	}
+
+	/**
+	 * @return time spent in all the phases, in nanoseconds
+	 */
+	public long getTotalTime() {
+		long total = 0L;
+		for(Phase phase : Phase.values())
+			if(phase != Phase.BOUNDARY)
+				total += phaseTimes[phase.ordinal()];
+		return total;
+	}
+
+	/**
+	 * @return number of pairs of faces tested for intersection, whatever the result
+	 */
+	public long getFacePairsTested() {
+		long total = 0L;
+		for(long count : intersectionResults)
+			total += count;
+		return total;
+	}
+
+	/**
+	 * @param result result of the face pair tests
+	 * @return number of face pair tests which gave that result
+	 */
+	public long getIntersectionCount(TriangleIntersectionResult result) {
+		return intersectionResults[result.ordinal()];
+	}
+
+	/**
+	 * @return number of positions classified against the other mesh by casting a ray
+	 */
+	public long getRayCasts() {
+		return rayCasts;
+	}
+
+	/**
+	 * @return number of pairs of faces merged into one after splitting
+	 */
+	public int getMerges() {
+		return merges;
+	}
+
+	public int getFirstFaces() {
+		return firstFaces;
+	}
+
+	public int getFirstVertices() {
+		return firstVertices;
+	}
+
+	public int getSecondFaces() {
+		return secondFaces;
+	}
+
+	public int getSecondVertices() {
+		return secondVertices;
+	}
+
+	public int getResultFaces() {
+		return resultFaces;
+	}
+
+	public int getResultVertices() {
+		return resultVertices;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("CSGStatistics{input=").append(firstFaces).append('/').append(firstVertices)
+				.append(" + ").append(secondFaces).append('/').append(secondVertices)
+				.append(" faces/vertices, result=").append(resultFaces).append('/').append(resultVertices)
+				.append(", total=").append(getTotalTime() / 1000000.0).append("ms");
+
+		for(Phase phase : Phase.values())
+			sb.append(", ").append(phase.name().toLowerCase()).append('=')
+					.append(phaseTimes[phase.ordinal()] / 1000000.0).append("ms");
+
+		sb.append(", facePairs=").append(getFacePairsTested()).append(" {");
+		for(TriangleIntersectionResult result : TriangleIntersectionResult.values()) {
+			if(result.ordinal() > 0)
+				sb.append(", ");
+			sb.append(result.name()).append('=').append(intersectionResults[result.ordinal()]);
+		}
+		return sb.append("}, rayCasts=").append(rayCasts)
+				.append(", merges=").append(merges)
+				.append('}').toString();
+	}
+
+	/**
+	 * Phases of a CSG operation
+	 */
+	public enum Phase {
+		/**
+		 * Copying the operands
+		 */
+		COPY,
+
+		/**
+		 * Finding the intersecting faces and splitting them, including finding the boundary faces
+		 */
+		SPLIT,
+
+		/**
+		 * Finding the faces of each operand lying on the surface of the other one. Boundary faces
+		 * are found while splitting, this time is also part of the split time and is summed
+		 * over all threads when splitting in parallel. It is not counted in the total time.
+		 */
+		BOUNDARY,
+
+		/**
+		 * Merging back split faces where it does not change the shape
+		 */
+		MERGE,
+
+		/**
+		 * Classifying the faces as inside, outside or on the boundary of the other operand
+		 */
+		CLASSIFY,
+
+		/**
+		 * Removing the faces not part of the result
+		 */
+		REMOVE,
+
+		/**
+		 * Merging the remaining faces of both operands into the result
+		 */
+		MERGE_WITH
+	}
+}
@@ -3,10 +3,24 @@ package com.winteralexander.gdx.csg;
 import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.g3d.Model;
 import com.badlogic.gdx.graphics.g3d.model.MeshPart;
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.csg.CSGStatistics.Phase;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
 
 /**
  * Utility class to perform Constructive Solid Geometry (CSG) operations on libGDX {@link Mesh}es.
  * <p>
+ * Operations on {@link CSGMesh}es can run concurrently on multiple threads, the operands can even
+ * be shared between concurrent operations as long as no thread modifies them meanwhile.
+ * <p>
+ * The asynchronous operations on {@link Mesh}es do all of the work on an executor and return
+ * a {@link PackedMesh}, leaving only the upload of the result to be done on the GL thread with
+ * {@link PackedMesh#toMesh()}.
+ * <p>
  * Created on 2024-08-11.
  *
  * @author Alexander Winter
@@ -119,6 +133,33 @@ public class CSGUtil {
 		return intersection(first, second, CSGConfiguration.DEFAULT);
 	}
 
+	/**
+	 * @see #subtractionAsync(Mesh, Mesh, CSGConfiguration, Executor)
+	 */
+	public static CompletableFuture<PackedMesh> subtractionAsync(Mesh minuend,
+	                                                             Mesh subtrahend,
+	                                                             Executor executor) {
+		return subtractionAsync(minuend, subtrahend, CSGConfiguration.DEFAULT, executor);
+	}
+
+	/**
+	 * @see #unionAsync(Mesh, Mesh, CSGConfiguration, Executor)
+	 */
+	public static CompletableFuture<PackedMesh> unionAsync(Mesh first,
+	                                                       Mesh second,
+	                                                       Executor executor) {
+		return unionAsync(first, second, CSGConfiguration.DEFAULT, executor);
+	}
+
+	/**
+	 * @see #intersectionAsync(Mesh, Mesh, CSGConfiguration, Executor)
+	 */
+	public static CompletableFuture<PackedMesh> intersectionAsync(Mesh first,
+	                                                              Mesh second,
+	                                                              Executor executor) {
+		return intersectionAsync(first, second, CSGConfiguration.DEFAULT, executor);
+	}
+
 	/**
 	 * Performs subtraction on a given {@link Model} and modifies this model internally.
 	 * Subtraction subtracts the second Model from the first one, deleting the part of the first
@@ -325,6 +366,78 @@ public class CSGUtil {
 		return intersection(CSGMesh.fromMesh(first), CSGMesh.fromMesh(second), config).toMesh();
 	}
 
+	/**
+	 * Performs CSG subtraction on the first mesh with the second mesh on the provided executor.
+	 * The conversion of the meshes, the operation and the packing of the result all run on the
+	 * executor, the meshes must not be modified until the returned future completes. The result
+	 * is turned into a {@link Mesh} with {@link PackedMesh#toMesh()} on the GL thread.
+	 *
+	 * @param minuend starting mesh
+	 * @param subtrahend mesh to subtract
+	 * @param config CSG configuration to use
+	 * @param executor executor to run the operation on
+	 * @return future completed with the packed result of the subtraction
+	 */
+	public static CompletableFuture<PackedMesh> subtractionAsync(Mesh minuend,
+	                                                             Mesh subtrahend,
+	                                                             CSGConfiguration config,
+	                                                             Executor executor) {
+		ensureNotNull(minuend, "minuend");
+		ensureNotNull(subtrahend, "subtrahend");
+		ensureNotNull(config, "config");
+		ensureNotNull(executor, "executor");
+		return CompletableFuture.supplyAsync(() -> subtraction(CSGMesh.fromMesh(minuend),
+				CSGMesh.fromMesh(subtrahend), config).pack(), executor);
+	}
+
+	/**
+	 * Creates a CSG union of the 2 provided meshes on the provided executor. The conversion of
+	 * the meshes, the operation and the packing of the result all run on the executor, the meshes
+	 * must not be modified until the returned future completes. The result is turned into a
+	 * {@link Mesh} with {@link PackedMesh#toMesh()} on the GL thread.
+	 *
+	 * @param first first mesh in the union
+	 * @param second second mesh in the union
+	 * @param config CSG configuration to use
+	 * @param executor executor to run the operation on
+	 * @return future completed with the packed result of the union
+	 */
+	public static CompletableFuture<PackedMesh> unionAsync(Mesh first,
+	                                                       Mesh second,
+	                                                       CSGConfiguration config,
+	                                                       Executor executor) {
+		ensureNotNull(first, "first");
+		ensureNotNull(second, "second");
+		ensureNotNull(config, "config");
+		ensureNotNull(executor, "executor");
+		return CompletableFuture.supplyAsync(() -> union(CSGMesh.fromMesh(first),
+				CSGMesh.fromMesh(second), config).pack(), executor);
+	}
+
+	/**
+	 * Creates a CSG intersection of the 2 provided meshes on the provided executor. The
+	 * conversion of the meshes, the operation and the packing of the result all run on the
+	 * executor, the meshes must not be modified until the returned future completes. The result
+	 * is turned into a {@link Mesh} with {@link PackedMesh#toMesh()} on the GL thread.
+	 *
+	 * @param first first mesh in the intersection
+	 * @param second second mesh in the intersection
+	 * @param config CSG configuration to use
+	 * @param executor executor to run the operation on
+	 * @return future completed with the packed result of the intersection
+	 */
+	public static CompletableFuture<PackedMesh> intersectionAsync(Mesh first,
+	                                                              Mesh second,
+	                                                              CSGConfiguration config,
+	                                                              Executor executor) {
+		ensureNotNull(first, "first");
+		ensureNotNull(second, "second");
+		ensureNotNull(config, "config");
+		ensureNotNull(executor, "executor");
+		return CompletableFuture.supplyAsync(() -> intersection(CSGMesh.fromMesh(first),
+				CSGMesh.fromMesh(second), config).pack(), executor);
+	}
+
 	/**
 	 * Performs CSG subtraction the 2 provided {@link CSGMesh} and returns a new {@link CSGMesh}
 	 * for the result
@@ -337,25 +450,44 @@ public class CSGUtil {
 	public static CSGMesh subtraction(CSGMesh minuend,
 	                                  CSGMesh subtrahend,
 	                                  CSGConfiguration config) {
+		CSGStatistics statistics = config.statistics;
+		long time = startOperation(statistics, minuend, subtrahend);
+		Object event = CSGEvents.beginOperation("subtraction", minuend, subtrahend);
+
 		CSGMesh copy1 = minuend.cpy();
-		CSGMesh copy2 = subtrahend.cpy();
 		copy1.setConfig(config);
+
+		// nothing of the subtrahend touches the minuend, nothing to remove or add
+		if(!minuend.overlaps(subtrahend, config.tolerance)) {
+			endPhase(statistics, Phase.COPY, time);
+			return endOperation(statistics, event, copy1);
+		}
+
+		CSGMesh copy2 = subtrahend.cpy();
 		copy2.setConfig(config);
+		time = endPhase(statistics, Phase.COPY, time);
 
-		copy1.splitTriangles(subtrahend);
-		copy2.splitTriangles(minuend);
+		FaceIntersections intersections = new FaceIntersections();
+		intersections.compute(minuend, subtrahend, config.tolerance, statistics);
+		endPhase(statistics, Phase.SPLIT, time);
+		copy1.splitTriangles(subtrahend, intersections.getFirstIntersections());
+		copy2.splitTriangles(minuend, intersections.getSecondIntersections());
+		time = startPhase(statistics);
 
 		copy1.classifyFaces(subtrahend);
 		copy2.classifyFaces(minuend);
+		time = endPhase(statistics, Phase.CLASSIFY, time);
 
 		copy1.removeFaces(true, true);
 		copy2.removeFaces(false, true);
+		time = endPhase(statistics, Phase.REMOVE, time);
 
 		copy2.invertTriangles();
 		copy1.mergeWith(copy2);
 		copy1.clearInsideStatus();
+		endPhase(statistics, Phase.MERGE_WITH, time);
 
-		return copy1;
+		return endOperation(statistics, event, copy1);
 	}
 
 	/**
@@ -368,24 +500,43 @@ public class CSGUtil {
 	 * @return result of the union
 	 */
 	public static CSGMesh union(CSGMesh first, CSGMesh second, CSGConfiguration config) {
+		CSGStatistics statistics = config.statistics;
+		long time = startOperation(statistics, first, second);
+		Object event = CSGEvents.beginOperation("union", first, second);
+
 		CSGMesh copy1 = first.cpy();
 		CSGMesh copy2 = second.cpy();
 		copy1.setConfig(config);
 		copy2.setConfig(config);
+		time = endPhase(statistics, Phase.COPY, time);
+
+		// disjoint meshes have no insides to remove, the union is both meshes as they are
+		if(!first.overlaps(second, config.tolerance)) {
+			copy1.mergeWith(copy2);
+			endPhase(statistics, Phase.MERGE_WITH, time);
+			return endOperation(statistics, event, copy1);
+		}
 
-		copy1.splitTriangles(second);
-		copy2.splitTriangles(first);
+		FaceIntersections intersections = new FaceIntersections();
+		intersections.compute(first, second, config.tolerance, statistics);
+		endPhase(statistics, Phase.SPLIT, time);
+		copy1.splitTriangles(second, intersections.getFirstIntersections());
+		copy2.splitTriangles(first, intersections.getSecondIntersections());
+		time = startPhase(statistics);
 
 		copy1.classifyFaces(second);
 		copy2.classifyFaces(first);
+		time = endPhase(statistics, Phase.CLASSIFY, time);
 
 		copy1.removeFaces(true, false);
 		copy2.removeFaces(true, true);
+		time = endPhase(statistics, Phase.REMOVE, time);
 
 		copy1.mergeWith(copy2);
 		copy1.clearInsideStatus();
+		endPhase(statistics, Phase.MERGE_WITH, time);
 
-		return copy1;
+		return endOperation(statistics, event, copy1);
 	}
 
 	/**
@@ -397,23 +548,76 @@ public class CSGUtil {
 	 * @return result of the intersection
 	 */
 	public static CSGMesh intersection(CSGMesh first, CSGMesh second, CSGConfiguration config) {
+		CSGStatistics statistics = config.statistics;
+		long time = startOperation(statistics, first, second);
+		Object event = CSGEvents.beginOperation("intersection", first, second);
+
+		// disjoint meshes have nothing in common
+		if(!first.overlaps(second, config.tolerance)) {
+			CSGMesh empty = new CSGMesh(new Array<>(), new Array<>(), first.getAttributes());
+			empty.setConfig(config);
+			return endOperation(statistics, event, empty);
+		}
+
 		CSGMesh copy1 = first.cpy();
 		CSGMesh copy2 = second.cpy();
 		copy1.setConfig(config);
 		copy2.setConfig(config);
+		time = endPhase(statistics, Phase.COPY, time);
 
-		copy1.splitTriangles(second);
-		copy2.splitTriangles(first);
+		FaceIntersections intersections = new FaceIntersections();
+		intersections.compute(first, second, config.tolerance, statistics);
+		endPhase(statistics, Phase.SPLIT, time);
+		copy1.splitTriangles(second, intersections.getFirstIntersections());
+		copy2.splitTriangles(first, intersections.getSecondIntersections());
+		time = startPhase(statistics);
 
 		copy1.classifyFaces(second);
 		copy2.classifyFaces(first);
+		time = endPhase(statistics, Phase.CLASSIFY, time);
 
 		copy1.removeFaces(false, false);
 		copy2.removeFaces(false, true);
+		time = endPhase(statistics, Phase.REMOVE, time);
 
 		copy1.mergeWith(copy2);
 		copy1.clearInsideStatus();
+		endPhase(statistics, Phase.MERGE_WITH, time);
+
+		return endOperation(statistics, event, copy1);
+	}
+
+	/**
+	 * Clears the statistics of an operation and records its operands
+	 *
+	 * @return time the first phase starts at, 0 if statistics are not collected
+	 */
+	private static long startOperation(CSGStatistics statistics, CSGMesh first, CSGMesh second) {
+		if(statistics == null)
+			return 0L;
+
+		statistics.clear();
+		statistics.setInput(first, second);
+		return System.nanoTime();
+	}
+
+	private static long startPhase(CSGStatistics statistics) {
+		return statistics != null ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Adds the time since the given start to a phase when collecting statistics
+	 *
+	 * @return time the next phase starts at, 0 if statistics are not collected
+	 */
+	private static long endPhase(CSGStatistics statistics, Phase phase, long start) {
+		return statistics != null ? statistics.endPhase(phase, start) : 0L;
+	}
 
-		return copy1;
+	private static CSGMesh endOperation(CSGStatistics statistics, Object event, CSGMesh result) {
+		if(statistics != null)
+			statistics.setResult(result);
+		CSGEvents.endOperation(event, result);
+		return result;
 	}
 }
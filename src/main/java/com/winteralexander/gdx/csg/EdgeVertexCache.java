@@ -0,0 +1,113 @@
+package com.winteralexander.gdx.csg;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+
+/**
+ * Vertices created where splits land on the edges of the original faces, keyed by the 2 vertices
+ * of the edge. Faces sharing an edge share the vertices at its ends, so the vertex created on
+ * that edge while splitting one face has the attributes the other face would interpolate as well,
+ * and can be reused by it even when the faces do not have the same normal. This avoids having 2
+ * vertices at the same position on each side of the edge.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class EdgeVertexCache {
+	private final float tolerance;
+
+	private final Array<MeshVertex> edgeVertices1 = new Array<>();
+	private final Array<MeshVertex> edgeVertices2 = new Array<>();
+	private final Array<MeshVertex> vertices = new Array<>();
+	// indices of the vertices on each edge, in order of insertion
+	private final LongMap<IntArray> edges = new LongMap<>();
+
+	/**
+	 * @param tolerance distance on each axis under which two positions are considered equal
+	 */
+	public EdgeVertexCache(float tolerance) {
+		if(!(tolerance >= 0f))
+			throw new IllegalArgumentException("tolerance must be positive or zero");
+
+		this.tolerance = tolerance;
+	}
+
+	/**
+	 * Adds a vertex lying on the edge between the 2 given vertices
+	 *
+	 * @param edgeVertex1 vertex at one end of the edge
+	 * @param edgeVertex2 vertex at the other end of the edge
+	 * @param vertex vertex on the edge
+	 */
+	public void add(MeshVertex edgeVertex1, MeshVertex edgeVertex2, MeshVertex vertex) {
+		ensureNotNull(edgeVertex1, "edgeVertex1");
+		ensureNotNull(edgeVertex2, "edgeVertex2");
+		ensureNotNull(vertex, "vertex");
+
+		long key = key(edgeVertex1, edgeVertex2);
+		IntArray edge = edges.get(key);
+		if(edge == null) {
+			edge = new IntArray(2);
+			edges.put(key, edge);
+		}
+		edge.add(vertices.size);
+		edgeVertices1.add(edgeVertex1);
+		edgeVertices2.add(edgeVertex2);
+		vertices.add(vertex);
+	}
+
+	/**
+	 * Finds the first added vertex within tolerance of the given position on the edge between
+	 * the 2 given vertices, in either direction
+	 *
+	 * @param edgeVertex1 vertex at one end of the edge
+	 * @param edgeVertex2 vertex at the other end of the edge
+	 * @param position position of the vertex to find
+	 * @return matching vertex, or null if there is none
+	 */
+	public MeshVertex find(MeshVertex edgeVertex1, MeshVertex edgeVertex2, Vector3 position) {
+		IntArray edge = edges.get(key(edgeVertex1, edgeVertex2));
+		if(edge == null)
+			return null;
+
+		for(int i = 0; i < edge.size; i++) {
+			int index = edge.get(i);
+			MeshVertex a = edgeVertices1.get(index);
+			MeshVertex b = edgeVertices2.get(index);
+
+			// different edges may share a key, the vertices of the edge are always compared
+			if(!(a == edgeVertex1 && b == edgeVertex2 || a == edgeVertex2 && b == edgeVertex1))
+				continue;
+
+			if(vertices.get(index).getPosition().epsilonEquals(position, tolerance))
+				return vertices.get(index);
+		}
+		return null;
+	}
+
+	public void clear() {
+		edgeVertices1.clear();
+		edgeVertices2.clear();
+		vertices.clear();
+		edges.clear();
+	}
+
+	public float getTolerance() {
+		return tolerance;
+	}
+
+	public int size() {
+		return vertices.size;
+	}
+
+	private static long key(MeshVertex a, MeshVertex b) {
+		long hashA = System.identityHashCode(a) & 0xFFFFFFFFL;
+		long hashB = System.identityHashCode(b) & 0xFFFFFFFFL;
+		return Math.min(hashA, hashB) << 32 | Math.max(hashA, hashB);
+	}
+}
@@ -0,0 +1,174 @@
+package com.winteralexander.gdx.csg;
+
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.winteralexander.gdx.csg.IntersectorPlus.TriangleIntersectionResult;
+
+import static com.winteralexander.gdx.csg.IntersectorPlus.TriangleIntersectionResult.NONE;
+import static com.winteralexander.gdx.csg.IntersectorPlus.intersectTriangleTriangle;
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+
+/**
+ * Pairs of intersecting faces between two {@link CSGMesh}es. The faces of both meshes are tested
+ * against each other once and each face keeps the list of its intersections with the faces of the
+ * other mesh it intersects or touches, with the result and segment of the intersection. Splitting
+ * either mesh then starts from these intersections instead of testing the same pairs again, only
+ * the fragments created by the split are tested.
+ * <p>
+ * Faces are identified by their index in their mesh, which is kept by {@link CSGMesh#cpy()}, so
+ * the intersections computed on two meshes can be used to split copies of these meshes. Nothing
+ * is written in the meshes, so they can be used by other threads meanwhile.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class FaceIntersections {
+	private final Array<Array<Intersection>> firstIntersections = new Array<>();
+	private final Array<Array<Intersection>> secondIntersections = new Array<>();
+
+	private final ObjectIntMap<MeshFace> secondIndices = new ObjectIntMap<>();
+	private final Array<MeshFace> tmpCandidates = new Array<>();
+	private final IntArray tmpStack = new IntArray();
+	private final Triangle tmpTriangle1 = new Triangle(), tmpTriangle2 = new Triangle();
+	private final SegmentPlus tmpSegment = new SegmentPlus();
+	private final BoundingBox tmpBounds = new BoundingBox();
+	private final IntersectorPlus.Context intersectorContext = new IntersectorPlus.Context();
+
+	/**
+	 * Finds all pairs of faces of the two provided meshes that intersect or touch within
+	 * tolerance, replacing the previously computed pairs.
+	 *
+	 * @param first first mesh
+	 * @param second second mesh
+	 * @param tolerance tolerance of the intersection tests
+	 */
+	public void compute(CSGMesh first, CSGMesh second, float tolerance) {
+		compute(first, second, tolerance, null);
+	}
+
+	/**
+	 * @see #compute(CSGMesh, CSGMesh, float)
+	 *
+	 * @param statistics statistics to count the tested pairs in, null to not count them
+	 */
+	public void compute(CSGMesh first, CSGMesh second, float tolerance, CSGStatistics statistics) {
+		clear();
+		firstIntersections.setSize(first.getFaces().size);
+		secondIntersections.setSize(second.getFaces().size);
+
+		Array<MeshFace> secondFaces = second.getFaces();
+		for(int i = 0; i < secondFaces.size; i++)
+			secondIndices.put(secondFaces.get(i), i);
+
+		AABBTree<MeshFace> secondTree = second.getFaceTree();
+
+		for(int i = 0; i < first.getFaces().size; i++) {
+			MeshFace face = first.getFaces().get(i);
+			BoundingBox bounds = face.getBounds(tmpBounds);
+
+			tmpCandidates.clear();
+			secondTree.query(bounds.min.x - tolerance,
+					bounds.min.y - tolerance,
+					bounds.min.z - tolerance,
+					bounds.max.x + tolerance,
+					bounds.max.y + tolerance,
+					bounds.max.z + tolerance,
+					tmpCandidates,
+					tmpStack);
+
+			Triangle triangle = face.getTriangle(tmpTriangle1);
+
+			for(int j = 0; j < tmpCandidates.size; j++) {
+				MeshFace otherFace = tmpCandidates.get(j);
+				TriangleIntersectionResult result = intersectTriangleTriangle(triangle,
+						otherFace.getTriangle(tmpTriangle2), tolerance, tmpSegment, intersectorContext);
+				if(statistics != null)
+					statistics.addIntersection(result);
+				if(result == NONE)
+					continue;
+
+				// the segment is the same within tolerance whichever face comes first, both sides
+				// share it
+				SegmentPlus segment = tmpSegment.cpy();
+				addIntersection(firstIntersections, i, new Intersection(otherFace, result, segment));
+				addIntersection(secondIntersections, secondIndices.get(otherFace, -1),
+						new Intersection(face, result, segment));
+			}
+		}
+		secondIndices.clear();
+		tmpCandidates.clear();
+	}
+
+	private static void addIntersection(Array<Array<Intersection>> intersections,
+	                                    int index,
+	                                    Intersection intersection) {
+		if(index < 0)
+			throw new IllegalStateException("Face tree contains a face that is not in its mesh");
+
+		Array<Intersection> list = intersections.get(index);
+		if(list == null) {
+			list = new Array<>(4);
+			intersections.set(index, list);
+		}
+		list.add(intersection);
+	}
+
+	public void clear() {
+		firstIntersections.clear();
+		secondIntersections.clear();
+	}
+
+	/**
+	 * @return for each face index of the first mesh, its intersections with the faces of the
+	 * second mesh, or null if it intersects none
+	 */
+	public Array<Array<Intersection>> getFirstIntersections() {
+		return firstIntersections;
+	}
+
+	/**
+	 * @return for each face index of the second mesh, its intersections with the faces of the
+	 * first mesh, or null if it intersects none
+	 */
+	public Array<Array<Intersection>> getSecondIntersections() {
+		return secondIntersections;
+	}
+
+	/**
+	 * Intersection of a face with a face of the other mesh. The segment is shared with the
+	 * intersection seen from the other face and must not be modified.
+	 */
+	public static class Intersection {
+		private final MeshFace otherFace;
+		private final TriangleIntersectionResult result;
+		private final SegmentPlus segment;
+
+		public Intersection(MeshFace otherFace, TriangleIntersectionResult result, SegmentPlus segment) {
+			ensureNotNull(otherFace, "otherFace");
+			ensureNotNull(result, "result");
+			ensureNotNull(segment, "segment");
+			this.otherFace = otherFace;
+			this.result = result;
+			this.segment = segment;
+		}
+
+		public MeshFace getOtherFace() {
+			return otherFace;
+		}
+
+		public TriangleIntersectionResult getResult() {
+			return result;
+		}
+
+		/**
+		 * @return segment of the intersection, only meaningful for the results defined by a
+		 * segment
+		 */
+		public SegmentPlus getSegment() {
+			return segment;
+		}
+	}
+}
@@ -0,0 +1,570 @@
+package com.winteralexander.gdx.csg;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Plane;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.math.collision.Segment;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.winteralexander.gdx.csg.FaceIntersections.Intersection;
+import com.winteralexander.gdx.csg.IntersectorPlus.TriangleIntersectionResult;
+import com.winteralexander.gdx.utils.math.VectorUtil;
+
+import java.util.concurrent.RecursiveAction;
+
+import static com.winteralexander.gdx.csg.IntersectorPlus.LineIntersectionResult.COLLINEAR;
+import static com.winteralexander.gdx.csg.IntersectorPlus.TriangleIntersectionResult.*;
+import static com.winteralexander.gdx.csg.IntersectorPlus.intersectTriangleTriangle;
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+
+/**
+ * Splits a range of faces of a {@link CSGMesh} where they intersect the faces of another mesh.
+ * The splitter only reads the faces it is given and the other mesh, all of its results (the
+ * fragments of each face, the vertices it created, the cut edges and the boundary faces) are kept
+ * in the splitter until the mesh collects them. Multiple splitters working on different ranges
+ * of faces can therefore run concurrently, as tasks of a
+ * {@link java.util.concurrent.ForkJoinPool}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class FaceSplitter extends RecursiveAction {
+	private final CSGConfiguration config;
+	private final MeshFace[] faces;
+	private final int start, end;
+	private final AABBTree<MeshFace> otherFaceTree;
+	private final BoundingBox otherBounds;
+	private final Array<Array<Intersection>> intersections;
+
+	private final Array<MeshFace> fragments = new Array<>();
+	private final IntArray fragmentCounts = new IntArray();
+	private final Array<MeshVertex> newVertices = new Array<>();
+	private final Array<MeshFace> newVertexFaces = new Array<>();
+	private final Array<MeshVertex> newVertexEdges = new Array<>();
+	private final VertexHash newVertexHash;
+	private final EdgeVertexCache newEdgeVertices;
+	private final Array<Segment> cutEdges = new Array<>();
+	private final Array<MeshFace> boundaryFaces = new Array<>();
+
+	private final Array<MeshFace> candidates = new Array<>();
+	// intersection of the original face with each candidate, empty if they are not known
+	private final Array<Intersection> knownIntersections = new Array<>();
+	private final Array<MeshFace> toAdd = new Array<>();
+	private final IntArray stack = new IntArray();
+	private final Triangle otherTriangle = new Triangle();
+	private final SegmentPlus intersectSegment = new SegmentPlus();
+	private final Plane plane = new Plane();
+	private final float[] tmpArray = new float[9];
+	private final Intersector.SplitTriangle splitTriangle = new Intersector.SplitTriangle(3);
+	private final Vector3 tmpV1 = new Vector3(),
+			tmpV2 = new Vector3(),
+			tmpV3 = new Vector3();
+	private final Vector3 tmpSegmentIntersection = new Vector3();
+	private final Vector3 tmpNormal = new Vector3();
+	private final BoundingBox faceBounds = new BoundingBox();
+	private final IntersectorPlus.Context intersectorContext = new IntersectorPlus.Context();
+	private final PolygonClipper clipper;
+	private final FloatArray clippedTriangles = new FloatArray();
+	private final Vector3 tmpEdge = new Vector3();
+	private final Vector3 tmpEdgePoint = new Vector3();
+
+	// number of face pair tests per result and time spent finding boundary faces, only counted
+	// when collecting statistics
+	private final long[] intersectionResults;
+	private long boundaryTime;
+
+	// face of the range being split, all fragments being split come from it
+	private MeshFace original;
+	// position along the edge found by the last call to findOriginalEdge
+	private float edgePosition;
+
+	/**
+	 * @param config configuration of the mesh being split
+	 * @param faces faces of the mesh being split, as they were before splitting
+	 * @param start index of the first face to split
+	 * @param end index after the last face to split
+	 * @param otherFaceTree face tree of the other mesh
+	 * @param otherBounds bounds of the other mesh grown by the tolerance, null if it is empty
+	 * @param intersections for each face index, its intersections with the faces of the other
+	 * mesh, or null to find and test them using the face tree of the other mesh
+	 */
+	public FaceSplitter(CSGConfiguration config,
+	                    MeshFace[] faces,
+	                    int start,
+	                    int end,
+	                    AABBTree<MeshFace> otherFaceTree,
+	                    BoundingBox otherBounds,
+	                    Array<Array<Intersection>> intersections) {
+		ensureNotNull(config, "config");
+		ensureNotNull(faces, "faces");
+		ensureNotNull(otherFaceTree, "otherFaceTree");
+		if(start < 0 || end > faces.length || start > end)
+			throw new IllegalArgumentException("Invalid range of faces [" + start + ", " + end + ")");
+
+		this.config = config;
+		this.faces = faces;
+		this.start = start;
+		this.end = end;
+		this.otherFaceTree = otherFaceTree;
+		this.otherBounds = otherBounds;
+		this.intersections = intersections;
+		this.newVertexHash = new VertexHash(config.tolerance);
+		this.newEdgeVertices = new EdgeVertexCache(config.tolerance);
+		this.clipper = config.enablePolygonClipping ? new PolygonClipper(config.tolerance) : null;
+		this.intersectionResults = config.statistics != null
+				? new long[TriangleIntersectionResult.values().length]
+				: null;
+	}
+
+	@Override
+	protected void compute() {
+		for(int i = start; i < end; i++)
+			split(i);
+
+		candidates.clear();
+		knownIntersections.clear();
+		clippedTriangles.clear();
+		if(clipper != null)
+			clipper.clear();
+		original = null;
+	}
+
+	private void split(int faceIndex) {
+		MeshFace face = faces[faceIndex];
+		original = face;
+		int first = fragments.size;
+		fragments.add(face);
+
+		// faces outside of the other mesh cannot intersect any of its faces
+		if(otherBounds != null && isFaceInBounds(face, otherBounds)) {
+			candidates.clear();
+			knownIntersections.clear();
+			if(intersections == null)
+				queryTree(face);
+			else if(intersections.get(faceIndex) != null) {
+				knownIntersections.addAll(intersections.get(faceIndex));
+				for(int i = 0; i < knownIntersections.size; i++)
+					candidates.add(knownIntersections.get(i).getOtherFace());
+			}
+
+			if(clipper != null)
+				clipFace(first);
+			else {
+				// fragments are added at the end as faces get split, they are tested against all
+				// the candidates as well
+				for(int i = first; i < fragments.size; i++)
+					for(int j = 0; j < candidates.size; j++)
+						splitFragment(i, j);
+			}
+
+			if(config.enableBoundaryFaces) {
+				long time = intersectionResults != null ? System.nanoTime() : 0L;
+				for(int i = first; i < fragments.size; i++)
+					findBoundary(fragments.get(i));
+				if(intersectionResults != null)
+					boundaryTime += System.nanoTime() - time;
+			}
+		}
+
+		fragmentCounts.add(fragments.size - first);
+	}
+
+	private void splitFragment(int fragmentIndex, int candidateIndex) {
+		MeshFace face = fragments.get(fragmentIndex);
+		MeshFace otherFace = candidates.get(candidateIndex);
+		otherFace.getTriangle(otherTriangle);
+
+		TriangleIntersectionResult result = intersect(face, candidateIndex);
+		if(result == NONCOPLANAR_FACE_FACE) {
+			cutEdges.add(intersectSegment.cpy());
+			plane.set(otherFace.getPosition1(), otherTriangle.getNormal());
+			splitByPlane(fragmentIndex, plane);
+		} else if(result == EDGE_FACE) {
+			// an intersection along an edge of the face does not split it, it is only recorded
+			// as a border between regions as the faces on both sides of the edge may not be on
+			// the same side of the other mesh
+			boolean onEdge = isSegmentOnEdge(face);
+			if(!onEdge || config.enableRegionClassification)
+				cutEdges.add(intersectSegment.cpy());
+			if(!onEdge) {
+				plane.set(otherFace.getPosition1(), otherTriangle.getNormal());
+				splitByPlane(fragmentIndex, plane);
+			}
+		} else if(result == EDGE_EDGE)
+			addSharedEdge();
+	}
+
+	/**
+	 * Splits a face by clipping it as a polygon with the planes of all the faces of the other
+	 * mesh cutting it, then triangulates each of the resulting regions once. The face is kept as
+	 * is if no plane cuts it.
+	 */
+	private void clipFace(int fragmentIndex) {
+		MeshFace face = fragments.get(fragmentIndex);
+		clipper.set(face.getPosition1(), face.getPosition2(), face.getPosition3(), face.getNormal());
+
+		int split = 0;
+		for(int i = 0; i < candidates.size; i++) {
+			MeshFace otherFace = candidates.get(i);
+			otherFace.getTriangle(otherTriangle);
+
+			TriangleIntersectionResult result = intersect(face, i);
+			if(result == EDGE_EDGE)
+				addSharedEdge();
+			if(result != NONCOPLANAR_FACE_FACE && result != EDGE_FACE)
+				continue;
+
+			boolean onEdge = result == EDGE_FACE && isSegmentOnEdge(face);
+			if(!onEdge || config.enableRegionClassification)
+				cutEdges.add(intersectSegment.cpy());
+			if(onEdge)
+				continue;
+
+			plane.set(otherFace.getPosition1(), otherTriangle.getNormal());
+			split += clipper.clip(plane, intersectSegment.a, intersectSegment.b);
+		}
+
+		if(split == 0)
+			return;
+
+		clippedTriangles.clear();
+		for(int i = 0; i < clipper.getRegionCount(); i++)
+			clipper.triangulate(i, clippedTriangles);
+
+		for(int i = 0; i < clippedTriangles.size; i += 9)
+			processSplitTriangle(face, clippedTriangles.items, i);
+		if(toAdd.size == 0)
+			return;
+
+		fragments.set(fragmentIndex, toAdd.get(0));
+		fragments.addAll(toAdd, 1, toAdd.size - 1);
+		toAdd.clear();
+	}
+
+	/**
+	 * Records the part of an edge of the face shared with an edge of the other mesh as a border
+	 * between regions, the faces on both sides of it may not be on the same side of the other
+	 * mesh. It does not split the face and is not needed when classifying vertices.
+	 */
+	private void addSharedEdge() {
+		if(config.enableRegionClassification
+		&& !intersectSegment.a.epsilonEquals(intersectSegment.b, config.tolerance))
+			cutEdges.add(intersectSegment.cpy());
+	}
+
+	/**
+	 * Checks if the last intersection segment lies along one of the edges of the given face
+	 */
+	private boolean isSegmentOnEdge(MeshFace face) {
+		for(int j = 0; j < 3; j++) {
+			Vector3 start = face.getTriangle().getPoint(j + 1);
+			Vector3 end = face.getTriangle().getPoint((j + 1) % 3 + 1);
+			if(IntersectorPlus.intersectSegmentSegment(start, end,
+					intersectSegment.a, intersectSegment.b, config.tolerance,
+					tmpSegmentIntersection, intersectorContext) == COLLINEAR)
+				return true;
+		}
+		return false;
+	}
+
+	private void findBoundary(MeshFace face) {
+		for(int i = 0; i < candidates.size; i++) {
+			MeshFace otherFace = candidates.get(i);
+			otherFace.getTriangle(otherTriangle);
+			if(face.getNormal().dot(otherTriangle.getNormal()) < 0.99f)
+				continue;
+
+			TriangleIntersectionResult result = intersect(face, i);
+			if(result == COPLANAR_FACE_FACE) {
+				boundaryFaces.add(face);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Intersects a face with the candidate of the given index, which must be in the other
+	 * triangle. The intersection is only tested if it is not already known, that is if the face
+	 * is a fragment created by splitting the original face.
+	 */
+	private TriangleIntersectionResult intersect(MeshFace face, int candidateIndex) {
+		if(face != original || knownIntersections.size == 0)
+			return intersect(face);
+
+		Intersection intersection = knownIntersections.get(candidateIndex);
+		intersectSegment.a.set(intersection.getSegment().a);
+		intersectSegment.b.set(intersection.getSegment().b);
+		return intersection.getResult();
+	}
+
+	/**
+	 * Intersects a face with the other triangle, counting the result when collecting statistics
+	 */
+	private TriangleIntersectionResult intersect(MeshFace face) {
+		TriangleIntersectionResult result = intersectTriangleTriangle(face.getTriangle(),
+				otherTriangle, config.tolerance, intersectSegment, intersectorContext);
+		if(intersectionResults != null)
+			intersectionResults[result.ordinal()]++;
+		return result;
+	}
+
+	private void splitByPlane(int fragmentIndex, Plane plane) {
+		MeshFace face = fragments.get(fragmentIndex);
+		face.getTriangle().toArray(tmpArray);
+		IntersectorPlus.splitTriangle(tmpArray, plane, splitTriangle);
+
+		if(splitTriangle.numBack == 0 && splitTriangle.numFront == 0)
+			throw new IllegalStateException("Split face has no split result");
+
+		for(int i = 0; i < splitTriangle.numBack; i++)
+			processSplitTriangle(face, splitTriangle.back, i * 9);
+
+		for(int i = 0; i < splitTriangle.numFront; i++)
+			processSplitTriangle(face, splitTriangle.front, i * 9);
+		if(toAdd.size == 0)
+			return;
+
+		fragments.set(fragmentIndex, toAdd.get(0));
+		fragments.addAll(toAdd, 1, toAdd.size - 1);
+		toAdd.clear();
+	}
+
+	private void processSplitTriangle(MeshFace face, float[] array, int offset) {
+		VectorUtil.setFromArray(tmpV1, array, offset);
+		VectorUtil.setFromArray(tmpV2, array, offset + 3);
+		VectorUtil.setFromArray(tmpV3, array, offset + 6);
+
+		if(tmpV1.epsilonEquals(tmpV2, config.tolerance)
+		|| tmpV1.epsilonEquals(tmpV3, config.tolerance)
+		|| tmpV2.epsilonEquals(tmpV3, config.tolerance))
+			return;
+
+		MeshVertex vertex1 = null, vertex2 = null, vertex3 = null;
+
+		for(MeshVertex faceVertex : face.getVertices()) {
+			if(faceVertex.getPosition().epsilonEquals(tmpV1, config.tolerance))
+				vertex1 = faceVertex;
+			if(faceVertex.getPosition().epsilonEquals(tmpV2, config.tolerance))
+				vertex2 = faceVertex;
+			if(faceVertex.getPosition().epsilonEquals(tmpV3, config.tolerance))
+				vertex3 = faceVertex;
+		}
+
+		Vector3 normal = tmpNormal.set(face.getNormal());
+		vertex1 = findOrCreateVertex(face, normal, tmpV1, vertex1);
+		vertex2 = findOrCreateVertex(face, normal, tmpV2, vertex2);
+		vertex3 = findOrCreateVertex(face, normal, tmpV3, vertex3);
+
+		toAdd.add(new MeshFace(vertex1, vertex2, vertex3));
+	}
+
+	/**
+	 * Finds a vertex created by this splitter for a face with the same normal at the given
+	 * position, which is preferred over the vertex of the split face. If there is neither and the
+	 * position is on an edge of the original face, finds a vertex created on that edge for any
+	 * face sharing it. Otherwise, creates a new vertex.
+	 */
+	private MeshVertex findOrCreateVertex(MeshFace face,
+	                                      Vector3 normal,
+	                                      Vector3 position,
+	                                      MeshVertex faceVertex) {
+		MeshVertex vertex = newVertexHash.find(position, normal);
+		if(vertex != null)
+			return vertex;
+
+		if(faceVertex != null)
+			return faceVertex;
+
+		int edge = findOriginalEdge(position);
+		if(edge == -1)
+			return createVertex(face, position);
+
+		MeshVertex edgeVertex1 = original.getVertices()[edge];
+		MeshVertex edgeVertex2 = original.getVertices()[(edge + 1) % 3];
+		vertex = newEdgeVertices.find(edgeVertex1, edgeVertex2, position);
+		if(vertex != null) {
+			// faces with the same normal as this one will find the vertex at this position too
+			newVertexHash.add(vertex, face);
+			return vertex;
+		}
+
+		vertex = new MeshVertex(face.getV1().getOtherAttributes().length);
+		vertex.getPosition().set(position);
+		interpolate(vertex, edgeVertex1, 1f - edgePosition, edgeVertex2, edgePosition, edgeVertex1, 0f);
+		addVertex(vertex, face, edgeVertex1, edgeVertex2);
+		newEdgeVertices.add(edgeVertex1, edgeVertex2, vertex);
+		return vertex;
+	}
+
+	private MeshVertex createVertex(MeshFace face, Vector3 position) {
+		MeshVertex vertex = new MeshVertex(face.getV1().getOtherAttributes().length);
+		vertex.getPosition().set(position);
+		Vector3 bary = face.getTriangle().getBarycentricCoordinates(position);
+		interpolate(vertex, face.getV1(), bary.x, face.getV2(), bary.y, face.getV3(), bary.z);
+		addVertex(vertex, face, null, null);
+		return vertex;
+	}
+
+	private void addVertex(MeshVertex vertex,
+	                       MeshFace face,
+	                       MeshVertex edgeVertex1,
+	                       MeshVertex edgeVertex2) {
+		newVertices.add(vertex);
+		newVertexFaces.add(face);
+		newVertexEdges.add(edgeVertex1);
+		newVertexEdges.add(edgeVertex2);
+		newVertexHash.add(vertex, face);
+	}
+
+	/**
+	 * Finds the edge of the original face the given position lies on, between its ends. The
+	 * position along the edge, from 0 to 1, is kept in {@link #edgePosition}.
+	 *
+	 * @return index of the first vertex of the edge in the original face, -1 if the position is
+	 * not on an edge
+	 */
+	private int findOriginalEdge(Vector3 position) {
+		for(int j = 0; j < 3; j++) {
+			Vector3 a = original.getVertices()[j].getPosition();
+			Vector3 b = original.getVertices()[(j + 1) % 3].getPosition();
+			Vector3 edge = tmpEdge.set(b).sub(a);
+			float length2 = edge.len2();
+			if(length2 == 0f)
+				continue;
+
+			float t = tmpEdgePoint.set(position).sub(a).dot(edge) / length2;
+			if(t <= 0f || t >= 1f)
+				continue;
+
+			if(tmpEdgePoint.set(a).mulAdd(edge, t).epsilonEquals(position, config.tolerance)) {
+				edgePosition = t;
+				return j;
+			}
+		}
+		return -1;
+	}
+
+	private static void interpolate(MeshVertex out,
+	                                MeshVertex v1, float w1,
+	                                MeshVertex v2, float w2,
+	                                MeshVertex v3, float w3) {
+		out.getNormal().set(0f, 0f, 0f)
+				.mulAdd(v1.getNormal(), w1)
+				.mulAdd(v2.getNormal(), w2)
+				.mulAdd(v3.getNormal(), w3)
+				.nor();
+
+		out.getTangent().set(0f, 0f, 0f)
+				.mulAdd(v1.getTangent(), w1)
+				.mulAdd(v2.getTangent(), w2)
+				.mulAdd(v3.getTangent(), w3)
+				.nor();
+
+		for(int i = 0; i < out.getOtherAttributes().length; i++)
+			out.getOtherAttributes()[i] = v1.getOtherAttributes()[i] * w1 +
+					v2.getOtherAttributes()[i] * w2 +
+					v3.getOtherAttributes()[i] * w3;
+	}
+
+	/**
+	 * Finds the faces of the other mesh whose bounds overlap the bounds of the given face. The
+	 * bounds are grown by the tolerance as faces within tolerance of each other are considered to
+	 * be touching.
+	 */
+	private void queryTree(MeshFace face) {
+		BoundingBox bounds = face.getBounds(faceBounds);
+		float tol = config.tolerance;
+		otherFaceTree.query(bounds.min.x - tol,
+				bounds.min.y - tol,
+				bounds.min.z - tol,
+				bounds.max.x + tol,
+				bounds.max.y + tol,
+				bounds.max.z + tol,
+				candidates,
+				stack);
+	}
+
+	private boolean isFaceInBounds(MeshFace face, BoundingBox bounds) {
+		BoundingBox faceBounds = face.getBounds(this.faceBounds);
+		return faceBounds.max.x >= bounds.min.x
+				&& faceBounds.max.y >= bounds.min.y
+				&& faceBounds.max.z >= bounds.min.z
+				&& faceBounds.min.x <= bounds.max.x
+				&& faceBounds.min.y <= bounds.max.y
+				&& faceBounds.min.z <= bounds.max.z;
+	}
+
+	public int getStart() {
+		return start;
+	}
+
+	public int getEnd() {
+		return end;
+	}
+
+	/**
+	 * @return fragments of the split faces, in order of the faces, a face that was not split is
+	 * its own single fragment
+	 */
+	public Array<MeshFace> getFragments() {
+		return fragments;
+	}
+
+	/**
+	 * @return number of fragments of each face of the range, in order
+	 */
+	public IntArray getFragmentCounts() {
+		return fragmentCounts;
+	}
+
+	/**
+	 * @return vertices created while splitting, in order of creation
+	 */
+	public Array<MeshVertex> getNewVertices() {
+		return newVertices;
+	}
+
+	/**
+	 * @return for each new vertex, the face that was split when it was created
+	 */
+	public Array<MeshFace> getNewVertexFaces() {
+		return newVertexFaces;
+	}
+
+	/**
+	 * @return for each new vertex, the 2 vertices of the edge of the original face it was created
+	 * on, or 2 nulls if it is not on an edge
+	 */
+	public Array<MeshVertex> getNewVertexEdges() {
+		return newVertexEdges;
+	}
+
+	public Array<Segment> getCutEdges() {
+		return cutEdges;
+	}
+
+	/**
+	 * @return fragments coplanar with and touching a face of the other mesh
+	 */
+	public Array<MeshFace> getBoundaryFaces() {
+		return boundaryFaces;
+	}
+
+	/**
+	 * @return number of face pair tests per result, indexed by the ordinal of the result, null if
+	 * statistics are not collected
+	 */
+	public long[] getIntersectionResults() {
+		return intersectionResults;
+	}
+
+	/**
+	 * @return time spent finding boundary faces in nanoseconds, 0 if statistics are not collected
+	 */
+	public long getBoundaryTime() {
+		return boundaryTime;
+	}
+}
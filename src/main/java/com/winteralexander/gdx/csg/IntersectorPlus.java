@@ -1,6 +1,8 @@
 package com.winteralexander.gdx.csg;
 
+import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Plane;
+import com.badlogic.gdx.math.Plane.PlaneSide;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.math.collision.Ray;
 import com.badlogic.gdx.math.collision.Segment;
@@ -11,23 +13,16 @@ import static java.lang.Math.*;
 
 /**
  * Extension of libGDX's {@link com.badlogic.gdx.math.Intersector} that adds support for some extra
- * intersection detection. The functions of this class are not thread safe.
+ * intersection detection. The functions taking a {@link Context} only use the temporary objects
+ * of that context and can be called concurrently from threads each using their own context. The
+ * other functions share a single context and are not thread safe.
  * <p>
  * Created on 2024-08-04.
  *
  * @author Alexander Winter
  */
 public class IntersectorPlus {
-	private static final Ray tmpIntersectRay = new Ray();
-	private static final Ray tmpEdgeLine1 = new Ray(),
-			tmpEdgeLine2 = new Ray(),
-			tmpEdgeLine3 = new Ray();
-	private static final Vector3 tmpIntersection1 = new Vector3(),
-			tmpIntersection2 = new Vector3(),
-			tmpIntersection3 = new Vector3();
-	private static final Segment tmpSegment1 = new SegmentPlus(), tmpSegment2 = new SegmentPlus();
-	private static final Vector3 tmpSegmentDir1 = new Vector3(), tmpSegmentDir2 = new Vector3();
-	private static final Triangle tmpTriangle = new Triangle();
+	private static final Context SHARED_CONTEXT = new Context();
 
 	/**
 	 * Computes the intersection of 2 rays in 3D space. If there an infinite amount of intersections
@@ -130,7 +125,18 @@ public class IntersectorPlus {
 	                                                             Segment second,
 	                                                             float tol,
 	                                                             Vector3 out) {
-		return intersectSegmentSegment(first.a, first.b, second.a, second.b, tol, out);
+		return intersectSegmentSegment(first, second, tol, out, SHARED_CONTEXT);
+	}
+
+	/**
+	 * @see #intersectSegmentSegment(Segment, Segment, float, Vector3)
+	 */
+	public static LineIntersectionResult intersectSegmentSegment(Segment first,
+	                                                             Segment second,
+	                                                             float tol,
+	                                                             Vector3 out,
+	                                                             Context ctx) {
+		return intersectSegmentSegment(first.a, first.b, second.a, second.b, tol, out, ctx);
 	}
 
 	/**
@@ -142,22 +148,36 @@ public class IntersectorPlus {
 	                                                             Vector3 secondEnd,
 	                                                             float tol,
 	                                                             Vector3 out) {
-		tmpSegmentDir1.set(firstEnd).sub(firstStart);
-		tmpSegmentDir2.set(secondEnd).sub(secondStart);
+		return intersectSegmentSegment(firstStart, firstEnd, secondStart, secondEnd, tol, out,
+				SHARED_CONTEXT);
+	}
 
-		LineIntersectionResult result = intersectRayRay(firstStart, tmpSegmentDir1,
-				secondStart, tmpSegmentDir2, tol, out);
+	/**
+	 * @see #intersectSegmentSegment(Segment, Segment, float, Vector3)
+	 */
+	public static LineIntersectionResult intersectSegmentSegment(Vector3 firstStart,
+	                                                             Vector3 firstEnd,
+	                                                             Vector3 secondStart,
+	                                                             Vector3 secondEnd,
+	                                                             float tol,
+	                                                             Vector3 out,
+	                                                             Context ctx) {
+		ctx.tmpSegmentDir1.set(firstEnd).sub(firstStart);
+		ctx.tmpSegmentDir2.set(secondEnd).sub(secondStart);
+
+		LineIntersectionResult result = intersectRayRay(firstStart, ctx.tmpSegmentDir1,
+				secondStart, ctx.tmpSegmentDir2, tol, out);
 
 		if(result == NONE)
 			return NONE;
 
 		if(result == COLLINEAR) {
-			float t1 = tmpSegmentDir1.dot(secondStart.x - firstStart.x,
+			float t1 = ctx.tmpSegmentDir1.dot(secondStart.x - firstStart.x,
 					secondStart.y - firstStart.y,
-					secondStart.z - firstStart.z) / tmpSegmentDir1.len2();
-			float t2 = tmpSegmentDir1.dot(secondEnd.x - firstStart.x,
+					secondStart.z - firstStart.z) / ctx.tmpSegmentDir1.len2();
+			float t2 = ctx.tmpSegmentDir1.dot(secondEnd.x - firstStart.x,
 					secondEnd.y - firstStart.y,
-					secondEnd.z - firstStart.z) / tmpSegmentDir1.len2();
+					secondEnd.z - firstStart.z) / ctx.tmpSegmentDir1.len2();
 
 			float tMin = min(t1, t2);
 			float tMax = max(t1, t2);
@@ -168,12 +188,12 @@ public class IntersectorPlus {
 			return tMin < 1f - tol && tMax > tol ? COLLINEAR : POINT;
 		}
 
-		float t1 = tmpSegmentDir1.dot(out.x - firstStart.x,
+		float t1 = ctx.tmpSegmentDir1.dot(out.x - firstStart.x,
 				out.y - firstStart.y,
-				out.z - firstStart.z) / tmpSegmentDir1.len2();
-		float t2 = tmpSegmentDir2.dot(out.x - secondStart.x,
+				out.z - firstStart.z) / ctx.tmpSegmentDir1.len2();
+		float t2 = ctx.tmpSegmentDir2.dot(out.x - secondStart.x,
 				out.y - secondStart.y,
-				out.z - secondStart.z) / tmpSegmentDir2.len2();
+				out.z - secondStart.z) / ctx.tmpSegmentDir2.len2();
 
 		if(t1 < -tol || t1 > 1f + tol || t2 < -tol || t2 > 1f + tol)
 			return NONE;
@@ -188,7 +208,18 @@ public class IntersectorPlus {
 	                                                                   Triangle second,
 	                                                                   float tol,
 	                                                                   Segment out) {
-		return intersectTriangleTriangle(first, second, tol, false, out);
+		return intersectTriangleTriangle(first, second, tol, false, out, SHARED_CONTEXT);
+	}
+
+	/**
+	 * @see #intersectTriangleTriangle(Triangle, Triangle, float, boolean, Segment)
+	 */
+	public static TriangleIntersectionResult intersectTriangleTriangle(Triangle first,
+	                                                                   Triangle second,
+	                                                                   float tol,
+	                                                                   Segment out,
+	                                                                   Context ctx) {
+		return intersectTriangleTriangle(first, second, tol, false, out, ctx);
 	}
 
 	/**
@@ -213,6 +244,18 @@ public class IntersectorPlus {
 	                                                                   float tol,
 																	   boolean ignoreCoplanar,
 	                                                                   Segment out) {
+		return intersectTriangleTriangle(first, second, tol, ignoreCoplanar, out, SHARED_CONTEXT);
+	}
+
+	/**
+	 * @see #intersectTriangleTriangle(Triangle, Triangle, float, boolean, Segment)
+	 */
+	public static TriangleIntersectionResult intersectTriangleTriangle(Triangle first,
+	                                                                   Triangle second,
+	                                                                   float tol,
+	                                                                   boolean ignoreCoplanar,
+	                                                                   Segment out,
+	                                                                   Context ctx) {
 		//distance from the face1 vertices to the face2 plane
 		float distFace1Vert1 = signedDistanceFromPlane(second, first.p1);
 		float distFace1Vert2 = signedDistanceFromPlane(second, first.p2);
@@ -239,35 +282,41 @@ public class IntersectorPlus {
 							second.getPoint(j + 1),
 							second.getPoint((j + 1) % 3 + 1),
 							tol,
-							tmpIntersection1);
+							ctx.tmpIntersection1,
+							ctx);
 
 					if(result == COLLINEAR) {
 						Vector3 otherPointA = first.getPoint((i + 2) % 3 + 1);
 						Vector3 otherPointB = second.getPoint((j + 2) % 3 + 1);
 
-						Vector3 perp = tmpIntersection1.set(end).sub(start);
+						Vector3 perp = ctx.tmpIntersection1.set(end).sub(start);
 						perp.crs(first.getNormal());
 						boolean sameDir = Math.signum(perp.dot(otherPointA)) == Math.signum(perp.dot(otherPointB));
-						return sameDir ? TriangleIntersectionResult.COPLANAR_FACE_FACE
-								: TriangleIntersectionResult.EDGE_EDGE;
+						if(sameDir)
+							return TriangleIntersectionResult.COPLANAR_FACE_FACE;
+
+						collinearOverlap(start, end,
+								second.getPoint(j + 1), second.getPoint((j + 1) % 3 + 1),
+								out, ctx);
+						return TriangleIntersectionResult.EDGE_EDGE;
 					}
 				}
 			}
 
 			for(int i = 0; i < 3; i++) {
 				Vector3 a = first.getPoint(i + 1);
-				Vector3 a1 = tmpIntersection1.set(first.getPoint((i + 1) % 3 + 1)).sub(a);
-				Vector3 a2 = tmpIntersection2.set(first.getPoint((i + 2) % 3 + 1)).sub(a);
+				Vector3 a1 = ctx.tmpIntersection1.set(first.getPoint((i + 1) % 3 + 1)).sub(a);
+				Vector3 a2 = ctx.tmpIntersection2.set(first.getPoint((i + 2) % 3 + 1)).sub(a);
 				for(int j = 0; j < 3; j++) {
 					Vector3 b = second.getPoint(j + 1);
-					Vector3 b1 = tmpSegmentDir1.set(second.getPoint((j + 1) % 3 + 1)).sub(b);
-					Vector3 b2 = tmpSegmentDir2.set(second.getPoint((j + 2) % 3 + 1)).sub(b);
+					Vector3 b1 = ctx.tmpSegmentDir1.set(second.getPoint((j + 1) % 3 + 1)).sub(b);
+					Vector3 b2 = ctx.tmpSegmentDir2.set(second.getPoint((j + 2) % 3 + 1)).sub(b);
 
 					if(a.epsilonEquals(b, tol)) {
-						boolean overlap = isBetween(a1, a2, b1)
-								|| isBetween(a1, a2, b2)
-								|| isBetween(b1, b2, a1)
-								|| isBetween(b1, b2, a2);
+						boolean overlap = isBetween(a1, a2, b1, ctx)
+								|| isBetween(a1, a2, b2, ctx)
+								|| isBetween(b1, b2, a1, ctx)
+								|| isBetween(b1, b2, a2, ctx);
 						return overlap
 								? TriangleIntersectionResult.COPLANAR_FACE_FACE
 								: TriangleIntersectionResult.POINT;
@@ -284,67 +333,77 @@ public class IntersectorPlus {
 					Vector3 e1b = second.getPoint((j + 1) % 3 + 1);
 					Vector3 e2b = second.getPoint((j + 2) % 3 + 1);
 
-					if(intersectSegmentSegment(a, e1a, e1b, e2b, tol, tmpIntersection1) == POINT
-							&& tmpIntersection1.epsilonEquals(a, tol)) {
+					if(intersectSegmentSegment(a, e1a, e1b, e2b, tol, ctx.tmpIntersection1, ctx) == POINT
+							&& ctx.tmpIntersection1.epsilonEquals(a, tol)) {
 
-						Vector3 perp = tmpIntersection1.set(e1b).sub(e2b);
+						Vector3 perp = ctx.tmpIntersection1.set(e1b).sub(e2b);
 						perp.crs(first.getNormal());
 
 						boolean sameDir = Math.signum(perp.dot(e1a)) == Math.signum(perp.dot(b));
-						return sameDir ? TriangleIntersectionResult.COPLANAR_FACE_FACE
-								: TriangleIntersectionResult.EDGE_EDGE;
+						if(sameDir)
+							return TriangleIntersectionResult.COPLANAR_FACE_FACE;
+
+						// the triangles only touch at the vertex
+						out.a.set(a);
+						out.b.set(a);
+						return TriangleIntersectionResult.EDGE_EDGE;
 					}
 
-					if(intersectSegmentSegment(e1a, e2a, b, e2b, tol, tmpIntersection1) == POINT
-							&& tmpIntersection1.epsilonEquals(b, tol)) {
+					if(intersectSegmentSegment(e1a, e2a, b, e2b, tol, ctx.tmpIntersection1, ctx) == POINT
+							&& ctx.tmpIntersection1.epsilonEquals(b, tol)) {
 
-						Vector3 perp = tmpIntersection1.set(e1a).sub(e2a);
+						Vector3 perp = ctx.tmpIntersection1.set(e1a).sub(e2a);
 						perp.crs(first.getNormal());
 
 						boolean sameDir = Math.signum(perp.dot(e2b)) == Math.signum(perp.dot(a));
-						return sameDir ? TriangleIntersectionResult.COPLANAR_FACE_FACE
-								: TriangleIntersectionResult.EDGE_EDGE;
+						if(sameDir)
+							return TriangleIntersectionResult.COPLANAR_FACE_FACE;
+
+						// the triangles only touch at the vertex
+						out.a.set(b);
+						out.b.set(b);
+						return TriangleIntersectionResult.EDGE_EDGE;
 					}
 				}
 			}
 
-			return intersectCoplanarTriangles(first, second, tol)
+			return intersectCoplanarTriangles(first, second, tol, ctx)
 					? TriangleIntersectionResult.COPLANAR_FACE_FACE
 					: TriangleIntersectionResult.NONE;
 		}
 
-		rayFromIntersection(first, second, tol, tmpIntersectRay);
+		rayFromIntersection(first, second, tol, ctx.tmpIntersectRay);
 
-		if(!intersectTriangleRay(first, tmpIntersectRay, tol, tmpSegment1)
-		|| !intersectTriangleRay(second, tmpIntersectRay, tol, tmpSegment2))
+		if(!intersectTriangleRay(first, ctx.tmpIntersectRay, tol, ctx.tmpSegment1, ctx)
+		|| !intersectTriangleRay(second, ctx.tmpIntersectRay, tol, ctx.tmpSegment2, ctx))
 			return TriangleIntersectionResult.NONE;
 
-		boolean firstIsEdge = !tmpSegment1.a.epsilonEquals(tmpSegment1.b, tol)
-				&& (intersectSegmentSegment(tmpSegment1.a, tmpSegment1.b, first.p1, first.p2, tol, tmpIntersection1) == COLLINEAR
-				|| intersectSegmentSegment(tmpSegment1.a, tmpSegment1.b, first.p2, first.p3, tol, tmpIntersection1) == COLLINEAR
-				|| intersectSegmentSegment(tmpSegment1.a, tmpSegment1.b, first.p3, first.p1, tol, tmpIntersection1) == COLLINEAR);
-		boolean secondIsEdge = !tmpSegment2.a.epsilonEquals(tmpSegment2.b, tol)
-				&& (intersectSegmentSegment(tmpSegment2.a, tmpSegment2.b, second.p1, second.p2, tol, tmpIntersection2) == COLLINEAR
-				|| intersectSegmentSegment(tmpSegment2.a, tmpSegment2.b, second.p2, second.p3, tol, tmpIntersection2) == COLLINEAR
-				|| intersectSegmentSegment(tmpSegment2.a, tmpSegment2.b, second.p3, second.p1, tol, tmpIntersection2) == COLLINEAR);
-
-		float dist1A = tmpIntersectRay.direction.dot(
-				tmpSegment1.a.x - tmpIntersectRay.origin.x,
-				tmpSegment1.a.y - tmpIntersectRay.origin.y,
-				tmpSegment1.a.z - tmpIntersectRay.origin.z);
-		float dist1B = tmpIntersectRay.direction.dot(
-				tmpSegment1.b.x - tmpIntersectRay.origin.x,
-				tmpSegment1.b.y - tmpIntersectRay.origin.y,
-				tmpSegment1.b.z - tmpIntersectRay.origin.z);
-
-		float dist2A = tmpIntersectRay.direction.dot(
-				tmpSegment2.a.x - tmpIntersectRay.origin.x,
-				tmpSegment2.a.y - tmpIntersectRay.origin.y,
-				tmpSegment2.a.z - tmpIntersectRay.origin.z);
-		float dist2B = tmpIntersectRay.direction.dot(
-				tmpSegment2.b.x - tmpIntersectRay.origin.x,
-				tmpSegment2.b.y - tmpIntersectRay.origin.y,
-				tmpSegment2.b.z - tmpIntersectRay.origin.z);
+		boolean firstIsEdge = !ctx.tmpSegment1.a.epsilonEquals(ctx.tmpSegment1.b, tol)
+				&& (intersectSegmentSegment(ctx.tmpSegment1.a, ctx.tmpSegment1.b, first.p1, first.p2, tol, ctx.tmpIntersection1, ctx) == COLLINEAR
+				|| intersectSegmentSegment(ctx.tmpSegment1.a, ctx.tmpSegment1.b, first.p2, first.p3, tol, ctx.tmpIntersection1, ctx) == COLLINEAR
+				|| intersectSegmentSegment(ctx.tmpSegment1.a, ctx.tmpSegment1.b, first.p3, first.p1, tol, ctx.tmpIntersection1, ctx) == COLLINEAR);
+		boolean secondIsEdge = !ctx.tmpSegment2.a.epsilonEquals(ctx.tmpSegment2.b, tol)
+				&& (intersectSegmentSegment(ctx.tmpSegment2.a, ctx.tmpSegment2.b, second.p1, second.p2, tol, ctx.tmpIntersection2, ctx) == COLLINEAR
+				|| intersectSegmentSegment(ctx.tmpSegment2.a, ctx.tmpSegment2.b, second.p2, second.p3, tol, ctx.tmpIntersection2, ctx) == COLLINEAR
+				|| intersectSegmentSegment(ctx.tmpSegment2.a, ctx.tmpSegment2.b, second.p3, second.p1, tol, ctx.tmpIntersection2, ctx) == COLLINEAR);
+
+		float dist1A = ctx.tmpIntersectRay.direction.dot(
+				ctx.tmpSegment1.a.x - ctx.tmpIntersectRay.origin.x,
+				ctx.tmpSegment1.a.y - ctx.tmpIntersectRay.origin.y,
+				ctx.tmpSegment1.a.z - ctx.tmpIntersectRay.origin.z);
+		float dist1B = ctx.tmpIntersectRay.direction.dot(
+				ctx.tmpSegment1.b.x - ctx.tmpIntersectRay.origin.x,
+				ctx.tmpSegment1.b.y - ctx.tmpIntersectRay.origin.y,
+				ctx.tmpSegment1.b.z - ctx.tmpIntersectRay.origin.z);
+
+		float dist2A = ctx.tmpIntersectRay.direction.dot(
+				ctx.tmpSegment2.a.x - ctx.tmpIntersectRay.origin.x,
+				ctx.tmpSegment2.a.y - ctx.tmpIntersectRay.origin.y,
+				ctx.tmpSegment2.a.z - ctx.tmpIntersectRay.origin.z);
+		float dist2B = ctx.tmpIntersectRay.direction.dot(
+				ctx.tmpSegment2.b.x - ctx.tmpIntersectRay.origin.x,
+				ctx.tmpSegment2.b.y - ctx.tmpIntersectRay.origin.y,
+				ctx.tmpSegment2.b.z - ctx.tmpIntersectRay.origin.z);
 
 		float startDist1 = min(dist1A, dist1B);
 		float endDist1 = max(dist1A, dist1B);
@@ -358,12 +417,12 @@ public class IntersectorPlus {
 		if(!intersection)
 			return TriangleIntersectionResult.NONE;
 
-		out.a.set(tmpIntersectRay.direction)
+		out.a.set(ctx.tmpIntersectRay.direction)
 				.scl(max(startDist1, startDist2))
-				.add(tmpIntersectRay.origin);
-		out.b.set(tmpIntersectRay.direction)
+				.add(ctx.tmpIntersectRay.origin);
+		out.b.set(ctx.tmpIntersectRay.direction)
 				.scl(min(endDist1, endDist2))
-				.add(tmpIntersectRay.origin);
+				.add(ctx.tmpIntersectRay.origin);
 
 		if(out.a.epsilonEquals(out.b, tol))
 			return TriangleIntersectionResult.POINT;
@@ -377,9 +436,12 @@ public class IntersectorPlus {
 		return TriangleIntersectionResult.NONCOPLANAR_FACE_FACE;
 	}
 
-	private static boolean isBetween(Vector3 first, Vector3 second, Vector3 between) {
+	private static boolean isBetween(Vector3 first,
+	                                 Vector3 second,
+	                                 Vector3 between,
+	                                 Context ctx) {
 		float lenFirst = first.len();
-		Vector3 middle = tmpIntersection3.set(first).scl(1f / lenFirst).mulAdd(second, 1f / second.len()).nor();
+		Vector3 middle = ctx.tmpIntersection3.set(first).scl(1f / lenFirst).mulAdd(second, 1f / second.len()).nor();
 		float d = middle.dot(first) / lenFirst;
 		float d2 = middle.dot(between) / between.len();
 		if(d2 < 0f)
@@ -387,6 +449,25 @@ public class IntersectorPlus {
 		return d2 > d;
 	}
 
+	/**
+	 * Sets the output segment to the part of the segment from start to end that is covered by
+	 * the other segment, both being collinear
+	 */
+	private static void collinearOverlap(Vector3 start,
+	                                     Vector3 end,
+	                                     Vector3 otherStart,
+	                                     Vector3 otherEnd,
+	                                     Segment out,
+	                                     Context ctx) {
+		Vector3 direction = ctx.tmpSegmentDir1.set(end).sub(start);
+		float length2 = direction.len2();
+		float t1 = direction.dot(otherStart.x - start.x, otherStart.y - start.y, otherStart.z - start.z) / length2;
+		float t2 = direction.dot(otherEnd.x - start.x, otherEnd.y - start.y, otherEnd.z - start.z) / length2;
+
+		out.a.set(start).mulAdd(direction, max(0f, min(t1, t2)));
+		out.b.set(start).mulAdd(direction, min(1f, max(t1, t2)));
+	}
+
 	private static void rayFromIntersection(Triangle first,
 	                                        Triangle second,
 	                                        float tol,
@@ -468,6 +549,17 @@ public class IntersectorPlus {
 	                                           Ray ray,
 	                                           float tol,
 	                                           Segment out) {
+		return intersectTriangleRay(triangle, ray, tol, out, SHARED_CONTEXT);
+	}
+
+	/**
+	 * @see #intersectTriangleRay(Triangle, Ray, float, Segment)
+	 */
+	public static boolean intersectTriangleRay(Triangle triangle,
+	                                           Ray ray,
+	                                           float tol,
+	                                           Segment out,
+	                                           Context ctx) {
 		Vector3 normal = triangle.getNormal();
 		float d = -normal.dot(triangle.p1);
 		float denom = ray.direction.dot(triangle.getNormal());
@@ -477,11 +569,11 @@ public class IntersectorPlus {
 			if(t < -tol)
 				return false;
 
-			tmpSegmentDir1.set(triangle.p2).sub(triangle.p1);
-			tmpSegmentDir2.set(tmpSegmentDir1).crs(normal);
+			ctx.tmpSegmentDir1.set(triangle.p2).sub(triangle.p1);
+			ctx.tmpSegmentDir2.set(ctx.tmpSegmentDir1).crs(normal);
 
-			float len2 = tmpSegmentDir1.len2();
-			float height2 = tmpSegmentDir2.dot(triangle.p3.x - triangle.p1.x,
+			float len2 = ctx.tmpSegmentDir1.len2();
+			float height2 = ctx.tmpSegmentDir2.dot(triangle.p3.x - triangle.p1.x,
 					triangle.p3.y - triangle.p1.y,
 					triangle.p3.z - triangle.p1.z);
 
@@ -489,10 +581,10 @@ public class IntersectorPlus {
 			float y = ray.origin.y + ray.direction.y * t;
 			float z = ray.origin.z + ray.direction.z * t;
 
-			float pU = tmpSegmentDir1.dot(x - triangle.p1.x, y - triangle.p1.y, z - triangle.p1.z) / len2;
-			float pV = tmpSegmentDir2.dot(x - triangle.p1.x, y - triangle.p1.y, z - triangle.p1.z) / height2;
+			float pU = ctx.tmpSegmentDir1.dot(x - triangle.p1.x, y - triangle.p1.y, z - triangle.p1.z) / len2;
+			float pV = ctx.tmpSegmentDir2.dot(x - triangle.p1.x, y - triangle.p1.y, z - triangle.p1.z) / height2;
 
-			float p3U = tmpSegmentDir1.dot(triangle.p3.x - triangle.p1.x,
+			float p3U = ctx.tmpSegmentDir1.dot(triangle.p3.x - triangle.p1.x,
 					triangle.p3.y - triangle.p1.y,
 					triangle.p3.z - triangle.p1.z) / len2;
 
@@ -506,37 +598,37 @@ public class IntersectorPlus {
 		if(abs(normal.dot(ray.origin) + d) > tol)
 			return false; // parallel but not coplanar
 
-		tmpEdgeLine1.origin.set(triangle.p1);
-		tmpEdgeLine1.direction.set(triangle.p2).sub(triangle.p1);
+		ctx.tmpEdgeLine1.origin.set(triangle.p1);
+		ctx.tmpEdgeLine1.direction.set(triangle.p2).sub(triangle.p1);
 
-		tmpEdgeLine2.origin.set(triangle.p2);
-		tmpEdgeLine2.direction.set(triangle.p3).sub(triangle.p2);
+		ctx.tmpEdgeLine2.origin.set(triangle.p2);
+		ctx.tmpEdgeLine2.direction.set(triangle.p3).sub(triangle.p2);
 
-		tmpEdgeLine3.origin.set(triangle.p3);
-		tmpEdgeLine3.direction.set(triangle.p1).sub(triangle.p3);
+		ctx.tmpEdgeLine3.origin.set(triangle.p3);
+		ctx.tmpEdgeLine3.direction.set(triangle.p1).sub(triangle.p3);
 
 		int countIntersections = 0;
 
-		LineIntersectionResult result1 = intersectRayRay(ray, tmpEdgeLine1, tol,
-				tmpIntersection1);
-		LineIntersectionResult result2 = intersectRayRay(ray, tmpEdgeLine2, tol,
-				tmpIntersection2);
-		LineIntersectionResult result3 = intersectRayRay(ray, tmpEdgeLine3, tol,
-				tmpIntersection3);
+		LineIntersectionResult result1 = intersectRayRay(ray, ctx.tmpEdgeLine1, tol,
+				ctx.tmpIntersection1);
+		LineIntersectionResult result2 = intersectRayRay(ray, ctx.tmpEdgeLine2, tol,
+				ctx.tmpIntersection2);
+		LineIntersectionResult result3 = intersectRayRay(ray, ctx.tmpEdgeLine3, tol,
+				ctx.tmpIntersection3);
 
 		if(result1 != NONE
 				&& result2 != NONE
-				&& tmpIntersection2.epsilonEquals(tmpIntersection1, tol))
+				&& ctx.tmpIntersection2.epsilonEquals(ctx.tmpIntersection1, tol))
 			result2 = NONE;
 
 		if(result1 != NONE
 				&& result3 != NONE
-				&& tmpIntersection3.epsilonEquals(tmpIntersection1, tol))
+				&& ctx.tmpIntersection3.epsilonEquals(ctx.tmpIntersection1, tol))
 			result3 = NONE;
 
 		if(result2 != NONE
 				&& result3 != NONE
-				&& tmpIntersection3.epsilonEquals(tmpIntersection2, tol))
+				&& ctx.tmpIntersection3.epsilonEquals(ctx.tmpIntersection2, tol))
 			result3 = NONE;
 
 		if(result1 == COLLINEAR) {
@@ -562,29 +654,29 @@ public class IntersectorPlus {
 		}
 
 		if(result1 == POINT) {
-			float t = tmpEdgeLine1.direction.dot(tmpIntersection1.x - tmpEdgeLine1.origin.x,
-					tmpIntersection1.y - tmpEdgeLine1.origin.y,
-					tmpIntersection1.z - tmpEdgeLine1.origin.z);
-			float tEnd = tmpEdgeLine1.direction.dot(triangle.p2.x - tmpEdgeLine1.origin.x,
-					triangle.p2.y - tmpEdgeLine1.origin.y,
-					triangle.p2.z - tmpEdgeLine1.origin.z);
+			float t = ctx.tmpEdgeLine1.direction.dot(ctx.tmpIntersection1.x - ctx.tmpEdgeLine1.origin.x,
+					ctx.tmpIntersection1.y - ctx.tmpEdgeLine1.origin.y,
+					ctx.tmpIntersection1.z - ctx.tmpEdgeLine1.origin.z);
+			float tEnd = ctx.tmpEdgeLine1.direction.dot(triangle.p2.x - ctx.tmpEdgeLine1.origin.x,
+					triangle.p2.y - ctx.tmpEdgeLine1.origin.y,
+					triangle.p2.z - ctx.tmpEdgeLine1.origin.z);
 
 			if(t >= -tol && t <= tEnd + tol) {
-				out.a.set(tmpIntersection1);
+				out.a.set(ctx.tmpIntersection1);
 				countIntersections++;
 			}
 		}
 
 		if(result2 == POINT) {
-			float t = tmpEdgeLine2.direction.dot(tmpIntersection2.x - tmpEdgeLine2.origin.x,
-					tmpIntersection2.y - tmpEdgeLine2.origin.y,
-					tmpIntersection2.z - tmpEdgeLine2.origin.z);
-			float tEnd = tmpEdgeLine2.direction.dot(triangle.p3.x - tmpEdgeLine2.origin.x,
-					triangle.p3.y - tmpEdgeLine2.origin.y,
-					triangle.p3.z - tmpEdgeLine2.origin.z);
+			float t = ctx.tmpEdgeLine2.direction.dot(ctx.tmpIntersection2.x - ctx.tmpEdgeLine2.origin.x,
+					ctx.tmpIntersection2.y - ctx.tmpEdgeLine2.origin.y,
+					ctx.tmpIntersection2.z - ctx.tmpEdgeLine2.origin.z);
+			float tEnd = ctx.tmpEdgeLine2.direction.dot(triangle.p3.x - ctx.tmpEdgeLine2.origin.x,
+					triangle.p3.y - ctx.tmpEdgeLine2.origin.y,
+					triangle.p3.z - ctx.tmpEdgeLine2.origin.z);
 
 			if(t >= -tol && t <= tEnd + tol) {
-				(countIntersections == 0 ? out.a : out.b).set(tmpIntersection2);
+				(countIntersections == 0 ? out.a : out.b).set(ctx.tmpIntersection2);
 				countIntersections++;
 
 				if(countIntersections == 2)
@@ -593,15 +685,15 @@ public class IntersectorPlus {
 		}
 
 		if(result3 == POINT) {
-			float t = tmpEdgeLine3.direction.dot(tmpIntersection3.x - tmpEdgeLine3.origin.x,
-					tmpIntersection3.y - tmpEdgeLine3.origin.y,
-					tmpIntersection3.z - tmpEdgeLine3.origin.z);
-			float tEnd = tmpEdgeLine3.direction.dot(triangle.p1.x - tmpEdgeLine3.origin.x,
-					triangle.p1.y - tmpEdgeLine3.origin.y,
-					triangle.p1.z - tmpEdgeLine3.origin.z);
+			float t = ctx.tmpEdgeLine3.direction.dot(ctx.tmpIntersection3.x - ctx.tmpEdgeLine3.origin.x,
+					ctx.tmpIntersection3.y - ctx.tmpEdgeLine3.origin.y,
+					ctx.tmpIntersection3.z - ctx.tmpEdgeLine3.origin.z);
+			float tEnd = ctx.tmpEdgeLine3.direction.dot(triangle.p1.x - ctx.tmpEdgeLine3.origin.x,
+					triangle.p1.y - ctx.tmpEdgeLine3.origin.y,
+					triangle.p1.z - ctx.tmpEdgeLine3.origin.z);
 
 			if(t >= -tol && t <= tEnd + tol) {
-				(countIntersections == 0 ? out.a : out.b).set(tmpIntersection3);
+				(countIntersections == 0 ? out.a : out.b).set(ctx.tmpIntersection3);
 				countIntersections++;
 
 				if(countIntersections == 2)
@@ -665,10 +757,20 @@ public class IntersectorPlus {
 	public static boolean intersectCoplanarTriangles(Triangle first,
 	                                                 Triangle second,
 	                                                 float tol) {
-		tmpSegmentDir1.set(first.p2).sub(first.p1);
-		tmpSegmentDir2.set(first.p3).sub(first.p1);
+		return intersectCoplanarTriangles(first, second, tol, SHARED_CONTEXT);
+	}
 
-		float longestSide1 = Math.max(tmpSegmentDir1.len2(), tmpSegmentDir2.len2());
+	/**
+	 * @see #intersectCoplanarTriangles(Triangle, Triangle, float)
+	 */
+	public static boolean intersectCoplanarTriangles(Triangle first,
+	                                                 Triangle second,
+	                                                 float tol,
+	                                                 Context ctx) {
+		ctx.tmpSegmentDir1.set(first.p2).sub(first.p1);
+		ctx.tmpSegmentDir2.set(first.p3).sub(first.p1);
+
+		float longestSide1 = Math.max(ctx.tmpSegmentDir1.len2(), ctx.tmpSegmentDir2.len2());
 		longestSide1 = Math.max(longestSide1,
 				pow2(first.p2.x - first.p3.x) +
 						pow2(first.p2.y - first.p3.y) +
@@ -687,30 +789,30 @@ public class IntersectorPlus {
 		// if the second triangle's longest side is larger than the largest side of the first one,
 		// we know for sure the second triangle can't fit into the first one
 		if(longestSide2 > longestSide1)
-			return intersectCoplanarTriangles(second, first, tol);
+			return intersectCoplanarTriangles(second, first, tol, ctx);
 
 		// otherwise the first triangle can't fit into the second one
 
-		tmpTriangle.set(second).sub(first.p1);
-		tmpSegmentDir2.set(tmpSegmentDir1).crs(first.getNormal()).scl(-1f);
+		ctx.tmpTriangle.set(second).sub(first.p1);
+		ctx.tmpSegmentDir2.set(ctx.tmpSegmentDir1).crs(first.getNormal()).scl(-1f);
 
-		float len2 = tmpSegmentDir1.len2();
-		float height2 = tmpSegmentDir2.dot(first.p3.x - first.p1.x,
+		float len2 = ctx.tmpSegmentDir1.len2();
+		float height2 = ctx.tmpSegmentDir2.dot(first.p3.x - first.p1.x,
 				first.p3.y - first.p1.y,
 				first.p3.z - first.p1.z);
 
-		float peakU = tmpSegmentDir1.dot(first.p3.x - first.p1.x,
+		float peakU = ctx.tmpSegmentDir1.dot(first.p3.x - first.p1.x,
 				first.p3.y - first.p1.y,
 				first.p3.z - first.p1.z) / len2;
 
-		float p1U = tmpSegmentDir1.dot(tmpTriangle.p1) / len2;
-		float p1V = tmpSegmentDir2.dot(tmpTriangle.p1) / height2;
+		float p1U = ctx.tmpSegmentDir1.dot(ctx.tmpTriangle.p1) / len2;
+		float p1V = ctx.tmpSegmentDir2.dot(ctx.tmpTriangle.p1) / height2;
 
-		float p2U = tmpSegmentDir1.dot(tmpTriangle.p2) / len2;
-		float p2V = tmpSegmentDir2.dot(tmpTriangle.p2) / height2;
+		float p2U = ctx.tmpSegmentDir1.dot(ctx.tmpTriangle.p2) / len2;
+		float p2V = ctx.tmpSegmentDir2.dot(ctx.tmpTriangle.p2) / height2;
 
-		float p3U = tmpSegmentDir1.dot(tmpTriangle.p3) / len2;
-		float p3V = tmpSegmentDir2.dot(tmpTriangle.p3) / height2;
+		float p3U = ctx.tmpSegmentDir1.dot(ctx.tmpTriangle.p3) / len2;
+		float p3V = ctx.tmpSegmentDir2.dot(ctx.tmpTriangle.p3) / height2;
 
 		if(inTriangle(p1U, p1V, peakU, tol))
 			return true;
@@ -724,7 +826,92 @@ public class IntersectorPlus {
 		return false;
 	}
 
+	/**
+	 * Splits a triangle in 2 by a plane, same as
+	 * {@link Intersector#splitTriangle(float[], Plane, Intersector.SplitTriangle)} but for
+	 * triangles made only of positions (9 floats). Unlike the libGDX version, this function does
+	 * not use any static temporary and can be called concurrently.
+	 *
+	 * @param triangle positions of the triangle to split
+	 * @param plane plane to split the triangle with
+	 * @param split output of the split, must have been created with 3 attributes
+	 */
+	public static void splitTriangle(float[] triangle, Plane plane, Intersector.SplitTriangle split) {
+		boolean back1 = plane.testPoint(triangle[0], triangle[1], triangle[2]) == PlaneSide.Back;
+		boolean back2 = plane.testPoint(triangle[3], triangle[4], triangle[5]) == PlaneSide.Back;
+		boolean back3 = plane.testPoint(triangle[6], triangle[7], triangle[8]) == PlaneSide.Back;
+
+		split.numFront = 0;
+		split.numBack = 0;
+
+		if(back1 == back2 && back2 == back3) {
+			split.total = 1;
+			if(back1) {
+				split.numBack = 1;
+				System.arraycopy(triangle, 0, split.back, 0, 9);
+			} else {
+				split.numFront = 1;
+				System.arraycopy(triangle, 0, split.front, 0, 9);
+			}
+			return;
+		}
+
+		split.total = 3;
+		split.numFront = (back1 ? 0 : 1) + (back2 ? 0 : 1) + (back3 ? 0 : 1);
+		split.numBack = split.total - split.numFront;
+
+		// walks the edges of the triangle, each vertex goes on its side and the point where an
+		// edge crosses the plane goes on both sides
+		int frontOffset = 0, backOffset = 0;
+		for(int i = 0; i < 3; i++) {
+			int start = i * 3;
+			int end = (i + 1) % 3 * 3;
+			boolean startBack = i == 0 ? back1 : i == 1 ? back2 : back3;
+			boolean endBack = i == 0 ? back2 : i == 1 ? back3 : back1;
+
+			if(startBack) {
+				System.arraycopy(triangle, start, split.back, backOffset, 3);
+				backOffset += 3;
+			} else {
+				System.arraycopy(triangle, start, split.front, frontOffset, 3);
+				frontOffset += 3;
+			}
+
+			if(startBack == endBack)
+				continue;
+
+			intersectEdgePlane(triangle, start, end, plane, split.front, frontOffset);
+			System.arraycopy(split.front, frontOffset, split.back, backOffset, 3);
+			frontOffset += 3;
+			backOffset += 3;
+		}
+
+		// the side with 4 vertices is a quad, split it in 2 triangles
+		float[] quad = split.numFront == 2 ? split.front : split.back;
+		System.arraycopy(quad, 6, quad, 9, 6);
+		System.arraycopy(quad, 0, quad, 15, 3);
+	}
+
+	private static void intersectEdgePlane(float[] positions,
+	                                       int start,
+	                                       int end,
+	                                       Plane plane,
+	                                       float[] out,
+	                                       int offset) {
+		float x = positions[start], y = positions[start + 1], z = positions[start + 2];
+		float dirX = positions[end] - x, dirY = positions[end + 1] - y, dirZ = positions[end + 2] - z;
+		Vector3 normal = plane.getNormal();
+
+		float denom = dirX * normal.x + dirY * normal.y + dirZ * normal.z;
+		float t = denom != 0f ? -(x * normal.x + y * normal.y + z * normal.z + plane.getD()) / denom : 0f;
+
+		out[offset] = x + dirX * t;
+		out[offset + 1] = y + dirY * t;
+		out[offset + 2] = z + dirZ * t;
+	}
+
 	private static float signedDistanceFromPlane(Triangle triangle, Vector3 point) {
+		// the normal is cached by the triangle as long as its points are unchanged
 		Vector3 normal = triangle.getNormal();
 		float a = normal.x;
 		float b = normal.y;
@@ -734,6 +921,23 @@ public class IntersectorPlus {
 		return a * point.x + b * point.y + c * point.z + d;
 	}
 
+	/**
+	 * Temporary objects used by the intersection functions. Each thread performing intersections
+	 * concurrently must use its own context.
+	 */
+	public static class Context {
+		private final Ray tmpIntersectRay = new Ray();
+		private final Ray tmpEdgeLine1 = new Ray(),
+				tmpEdgeLine2 = new Ray(),
+				tmpEdgeLine3 = new Ray();
+		private final Vector3 tmpIntersection1 = new Vector3(),
+				tmpIntersection2 = new Vector3(),
+				tmpIntersection3 = new Vector3();
+		private final Segment tmpSegment1 = new SegmentPlus(), tmpSegment2 = new SegmentPlus();
+		private final Vector3 tmpSegmentDir1 = new Vector3(), tmpSegmentDir2 = new Vector3();
+		private final Triangle tmpTriangle = new Triangle();
+	}
+
 	/**
 	 * Result of a Line-Line intersection where the lines can either be rays or segments
 	 */
@@ -1,6 +1,7 @@
 package com.winteralexander.gdx.csg;
 
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
 
 import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
 
@@ -16,6 +17,12 @@ public class MeshFace {
 	private final MeshVertex[] vertices = new MeshVertex[3];
 	private final Triangle tmpTriangle = new Triangle();
 
+	// plane and bounds of the face, computed again when the positions of the vertices change
+	private FacePlane plane = null;
+
+	// index of this face in the mesh that last indexed its faces
+	private int index = -1;
+
 	public MeshFace(MeshVertex v1, MeshVertex v2, MeshVertex v3) {
 		ensureNotNull(v1, "v1");
 		ensureNotNull(v2, "v2");
@@ -25,8 +32,50 @@ public class MeshFace {
 		this.vertices[2] = v3;
 	}
 
+	/**
+	 * Gets the normal of this face. The normal is cached until the positions of the vertices
+	 * change, the returned vector must not be modified.
+	 *
+	 * @return normal of this face
+	 */
 	public Vector3 getNormal() {
-		return getTriangle().getNormal();
+		return getPlane().normal;
+	}
+
+	/**
+	 * @return offset of the plane of this face from the origin along its normal, so that
+	 * normal . p + offset = 0 for any point p on the plane
+	 */
+	public float getPlaneOffset() {
+		return getPlane().offset;
+	}
+
+	/**
+	 * Sets the provided box to the bounds of this face
+	 *
+	 * @param out box to set
+	 * @return the provided box
+	 */
+	public BoundingBox getBounds(BoundingBox out) {
+		FacePlane plane = getPlane();
+		out.min.set(plane.minX, plane.minY, plane.minZ);
+		out.max.set(plane.maxX, plane.maxY, plane.maxZ);
+		return out;
+	}
+
+	/**
+	 * Gets the cached plane of this face, computing it again if the positions of the vertices
+	 * are not the ones it was computed from. A new plane is created instead of updating the
+	 * previous one so that threads reading the same face concurrently always see a complete
+	 * plane.
+	 */
+	private FacePlane getPlane() {
+		FacePlane plane = this.plane;
+		if(plane == null || !plane.matches(getPosition1(), getPosition2(), getPosition3())) {
+			plane = new FacePlane(getPosition1(), getPosition2(), getPosition3());
+			this.plane = plane;
+		}
+		return plane;
 	}
 
 	public Vector3 getPosition1() {
@@ -53,12 +102,77 @@ public class MeshFace {
 		return vertices[2];
 	}
 
+	/**
+	 * Gets the triangle of this face. The returned triangle is owned by this face and is set again
+	 * on every call, use {@link #getTriangle(Triangle)} when this face may be read from multiple
+	 * threads.
+	 *
+	 * @return triangle of this face
+	 */
 	public Triangle getTriangle() {
-		tmpTriangle.set(getPosition1(), getPosition2(), getPosition3());
-		return tmpTriangle;
+		return getTriangle(tmpTriangle);
+	}
+
+	/**
+	 * Sets the provided triangle to the positions of this face
+	 *
+	 * @param out triangle to set
+	 * @return the provided triangle
+	 */
+	public Triangle getTriangle(Triangle out) {
+		out.set(getPosition1(), getPosition2(), getPosition3(), getNormal());
+		return out;
 	}
 
 	public MeshVertex[] getVertices() {
 		return vertices;
 	}
+
+	/**
+	 * Gets the index of this face in the faces of the {@link CSGMesh} that last indexed them,
+	 * used by the mesh to keep per-face data in arrays. Only meaningful to that mesh, and only
+	 * until its faces change.
+	 *
+	 * @return index of this face, -1 if it was never indexed
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	public void setIndex(int index) {
+		this.index = index;
+	}
+
+	/**
+	 * Plane and bounds of a face along with the positions they were computed from. All fields are
+	 * final so that a plane created by one thread is seen complete by the others.
+	 */
+	private static class FacePlane {
+		private final float x1, y1, z1, x2, y2, z2, x3, y3, z3;
+		private final Vector3 normal;
+		private final float offset;
+		private final float minX, minY, minZ, maxX, maxY, maxZ;
+
+		FacePlane(Vector3 p1, Vector3 p2, Vector3 p3) {
+			x1 = p1.x; y1 = p1.y; z1 = p1.z;
+			x2 = p2.x; y2 = p2.y; z2 = p2.z;
+			x3 = p3.x; y3 = p3.y; z3 = p3.z;
+
+			normal = Triangle.computeNormal(x1, y1, z1, x2, y2, z2, x3, y3, z3, new Vector3());
+			offset = -(normal.x * x1 + normal.y * y1 + normal.z * z1);
+
+			minX = Math.min(x1, Math.min(x2, x3));
+			minY = Math.min(y1, Math.min(y2, y3));
+			minZ = Math.min(z1, Math.min(z2, z3));
+			maxX = Math.max(x1, Math.max(x2, x3));
+			maxY = Math.max(y1, Math.max(y2, y3));
+			maxZ = Math.max(z1, Math.max(z2, z3));
+		}
+
+		boolean matches(Vector3 p1, Vector3 p2, Vector3 p3) {
+			return p1.x == x1 && p1.y == y1 && p1.z == z1
+					&& p2.x == x2 && p2.y == y2 && p2.z == z2
+					&& p3.x == x3 && p3.y == y3 && p3.z == z3;
+		}
+	}
 }
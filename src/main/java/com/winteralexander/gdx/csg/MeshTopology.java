@@ -0,0 +1,261 @@
+package com.winteralexander.gdx.csg;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Half-edge connectivity of the faces of a {@link CSGMesh}. Each face has 3 half-edges, half-edge
+ * {@code 3 * f + j} of face {@code f} going from its vertex {@code j} to its vertex
+ * {@code (j + 1) % 3}. Instead of a single twin, the half-edges of all the faces sharing an
+ * edge are linked together in the order they were added, so that edges shared by more than 2
+ * faces, which splitting can produce, are supported. Once built, finding the faces sharing an
+ * edge of a face takes constant time per neighbour.
+ * <p>
+ * The topology is kept up to date by calling {@link #addFace(MeshFace)},
+ * {@link #removeFace(MeshFace)} and {@link #updateFace(MeshFace)} when faces change. Building it
+ * stores in each vertex and face its index (see {@link MeshVertex#getIndex()} and
+ * {@link MeshFace#getIndex()}), which are the indices in the mesh at the time it is built.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class MeshTopology {
+	public static final int NULL = -1;
+
+	private final Array<MeshVertex> vertices = new Array<>();
+	// face of each group of 3 half-edges, null once removed
+	private final Array<MeshFace> faces = new Array<>();
+
+	// edges known to start at each vertex, only for the vertex with the lowest index of the edge
+	private final Array<IntArray> vertexEdges = new Array<>();
+	private int vertexEdgesUsed = 0;
+
+	// vertices of each edge, lowest index first, and first and last half-edge along it
+	private final IntArray edgeVertex1 = new IntArray();
+	private final IntArray edgeVertex2 = new IntArray();
+	private final IntArray edgeFirst = new IntArray();
+	private final IntArray edgeLast = new IntArray();
+
+	// edge of each half-edge and previous and next half-edges along the same edge
+	private final IntArray halfEdgeEdge = new IntArray();
+	private final IntArray halfEdgePrevious = new IntArray();
+	private final IntArray halfEdgeNext = new IntArray();
+
+	/**
+	 * Builds the topology of the faces of the provided mesh, replacing the current one
+	 *
+	 * @param mesh mesh to build the topology of
+	 */
+	public void build(CSGMesh mesh) {
+		ensureNotNull(mesh, "mesh");
+		clear();
+
+		Array<MeshVertex> meshVertices = mesh.getVertices();
+		for(int i = 0; i < meshVertices.size; i++)
+			addVertex(meshVertices.get(i));
+
+		Array<MeshFace> meshFaces = mesh.getFaces();
+		for(int i = 0; i < meshFaces.size; i++)
+			addFace(meshFaces.get(i));
+	}
+
+	/**
+	 * Adds a face to this topology, after all the faces already in it along each of its edges
+	 *
+	 * @param face face to add
+	 */
+	public void addFace(MeshFace face) {
+		ensureNotNull(face, "face");
+		if(contains(face))
+			throw new IllegalArgumentException("Face is already in the topology");
+
+		face.setIndex(faces.size);
+		faces.add(face);
+		for(int j = 0; j < 3; j++) {
+			halfEdgeEdge.add(NULL);
+			halfEdgePrevious.add(NULL);
+			halfEdgeNext.add(NULL);
+		}
+		linkHalfEdges(face);
+	}
+
+	/**
+	 * Removes a face from this topology
+	 *
+	 * @param face face to remove
+	 */
+	public void removeFace(MeshFace face) {
+		if(!contains(face))
+			throw new IllegalArgumentException("Face is not in the topology");
+
+		unlinkHalfEdges(face);
+		faces.set(face.getIndex(), null);
+	}
+
+	/**
+	 * Updates the edges of a face after its vertices changed. The face is moved after all the
+	 * faces along each of its edges, including the edges it already had.
+	 *
+	 * @param face face whose vertices changed
+	 */
+	public void updateFace(MeshFace face) {
+		if(!contains(face))
+			throw new IllegalArgumentException("Face is not in the topology");
+
+		unlinkHalfEdges(face);
+		linkHalfEdges(face);
+	}
+
+	/**
+	 * @param face any face
+	 * @return true if the face is in this topology, false otherwise
+	 */
+	public boolean contains(MeshFace face) {
+		int index = face.getIndex();
+		return index >= 0 && index < faces.size && faces.get(index) == face;
+	}
+
+	/**
+	 * Gets the half-edge going from the vertex {@code edge} of a face to the next one
+	 *
+	 * @param face face in this topology
+	 * @param edge index of the edge in the face, from 0 to 2
+	 * @return half-edge of the face
+	 */
+	public int getHalfEdge(MeshFace face, int edge) {
+		if(!contains(face))
+			throw new IllegalArgumentException("Face is not in the topology");
+		if(edge < 0 || edge > 2)
+			throw new IllegalArgumentException("edge must be between 0 and 2");
+
+		return face.getIndex() * 3 + edge;
+	}
+
+	/**
+	 * Gets the first half-edge along the same edge as the given one, in the order the faces were
+	 * added or updated. Following {@link #getNextAlongEdge(int)} from it goes through the
+	 * half-edges of all the faces sharing that edge, the given one included.
+	 *
+	 * @param halfEdge half-edge of a face in this topology
+	 * @return first half-edge along the same edge
+	 */
+	public int getFirstAlongEdge(int halfEdge) {
+		return edgeFirst.get(halfEdgeEdge.get(halfEdge));
+	}
+
+	/**
+	 * @param halfEdge half-edge of a face in this topology
+	 * @return next half-edge along the same edge, {@link #NULL} if it is the last one
+	 */
+	public int getNextAlongEdge(int halfEdge) {
+		return halfEdgeNext.get(halfEdge);
+	}
+
+	/**
+	 * @param halfEdge half-edge of a face in this topology
+	 * @return face of the half-edge
+	 */
+	public MeshFace getFace(int halfEdge) {
+		return faces.get(halfEdge / 3);
+	}
+
+	public void clear() {
+		vertices.clear();
+		faces.clear();
+		for(int i = 0; i < vertexEdgesUsed; i++)
+			vertexEdges.get(i).clear();
+		vertexEdgesUsed = 0;
+		edgeVertex1.clear();
+		edgeVertex2.clear();
+		edgeFirst.clear();
+		edgeLast.clear();
+		halfEdgeEdge.clear();
+		halfEdgePrevious.clear();
+		halfEdgeNext.clear();
+	}
+
+	private void linkHalfEdges(MeshFace face) {
+		MeshVertex[] faceVertices = face.getVertices();
+		for(int j = 0; j < 3; j++) {
+			int halfEdge = face.getIndex() * 3 + j;
+			int edge = findOrAddEdge(indexOf(faceVertices[j]), indexOf(faceVertices[(j + 1) % 3]));
+			int last = edgeLast.get(edge);
+
+			halfEdgeEdge.set(halfEdge, edge);
+			halfEdgePrevious.set(halfEdge, last);
+			halfEdgeNext.set(halfEdge, NULL);
+			if(last == NULL)
+				edgeFirst.set(edge, halfEdge);
+			else
+				halfEdgeNext.set(last, halfEdge);
+			edgeLast.set(edge, halfEdge);
+		}
+	}
+
+	private void unlinkHalfEdges(MeshFace face) {
+		for(int j = 0; j < 3; j++) {
+			int halfEdge = face.getIndex() * 3 + j;
+			int edge = halfEdgeEdge.get(halfEdge);
+			int previous = halfEdgePrevious.get(halfEdge);
+			int next = halfEdgeNext.get(halfEdge);
+
+			if(previous == NULL)
+				edgeFirst.set(edge, next);
+			else
+				halfEdgeNext.set(previous, next);
+
+			if(next == NULL)
+				edgeLast.set(edge, previous);
+			else
+				halfEdgePrevious.set(next, previous);
+
+			halfEdgeEdge.set(halfEdge, NULL);
+			halfEdgePrevious.set(halfEdge, NULL);
+			halfEdgeNext.set(halfEdge, NULL);
+		}
+	}
+
+	private int findOrAddEdge(int vertex1, int vertex2) {
+		int low = min(vertex1, vertex2);
+		int high = max(vertex1, vertex2);
+
+		IntArray edges = vertexEdges.get(low);
+		for(int i = 0; i < edges.size; i++)
+			if(edgeVertex2.get(edges.get(i)) == high)
+				return edges.get(i);
+
+		int edge = edgeVertex1.size;
+		edgeVertex1.add(low);
+		edgeVertex2.add(high);
+		edgeFirst.add(NULL);
+		edgeLast.add(NULL);
+		edges.add(edge);
+		return edge;
+	}
+
+	/**
+	 * Gets the index of a vertex in this topology, adding it if it is not in it yet
+	 */
+	private int indexOf(MeshVertex vertex) {
+		int index = vertex.getIndex();
+		if(index >= 0 && index < vertices.size && vertices.get(index) == vertex)
+			return index;
+		return addVertex(vertex);
+	}
+
+	private int addVertex(MeshVertex vertex) {
+		int index = vertices.size;
+		vertex.setIndex(index);
+		vertices.add(vertex);
+
+		if(vertexEdgesUsed == vertexEdges.size)
+			vertexEdges.add(new IntArray(4));
+		vertexEdgesUsed++;
+		return index;
+	}
+}
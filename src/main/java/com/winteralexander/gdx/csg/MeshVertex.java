@@ -18,6 +18,9 @@ public class MeshVertex {
 	private final Vector3 normal, tangent;
 	private final float[] otherAttributes;
 
+	// index of this vertex in the mesh that last indexed its vertices
+	private int index = -1;
+
 	public MeshVertex(int otherAttributesCount) {
 		this(new Vector3(), new Vector3(), new Vector3(), new float[otherAttributesCount]);
 	}
@@ -58,4 +61,19 @@ public class MeshVertex {
 	public float[] getOtherAttributes() {
 		return otherAttributes;
 	}
+
+	/**
+	 * Gets the index of this vertex in the vertices of the {@link CSGMesh} that last indexed
+	 * them, used by the mesh to keep per-vertex data in arrays. Only meaningful to that mesh, and
+	 * only until its vertices change.
+	 *
+	 * @return index of this vertex, -1 if it was never indexed
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	public void setIndex(int index) {
+		this.index = index;
+	}
 }
@@ -0,0 +1,68 @@
+package com.winteralexander.gdx.csg;
+
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttributes;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+
+/**
+ * Vertices and indices of a {@link CSGMesh} packed in the layout of a libGDX {@link Mesh}, ready
+ * to be uploaded. Packing can be done on any thread, only {@link #toMesh()} has to be called on
+ * the thread owning the GL context, and it only copies the arrays into the buffers of the mesh.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class PackedMesh {
+	private final float[] vertices;
+	private final short[] indices;
+	private final VertexAttributes attributes;
+
+	/**
+	 * @param vertices interleaved vertex data, in the layout of the attributes
+	 * @param indices vertex indices, 3 per face
+	 * @param attributes attributes of the vertices
+	 */
+	public PackedMesh(float[] vertices, short[] indices, VertexAttributes attributes) {
+		ensureNotNull(vertices, "vertices");
+		ensureNotNull(indices, "indices");
+		ensureNotNull(attributes, "attributes");
+		if(vertices.length % (attributes.vertexSize / 4) != 0)
+			throw new IllegalArgumentException("vertices length is not a multiple of the vertex size");
+		if(indices.length % 3 != 0)
+			throw new IllegalArgumentException("indices length is not a multiple of 3");
+
+		this.vertices = vertices;
+		this.indices = indices;
+		this.attributes = attributes;
+	}
+
+	/**
+	 * Creates a new libGDX {@link Mesh} from the packed data. Must be called on the GL thread.
+	 *
+	 * @return newly created mesh
+	 */
+	public Mesh toMesh() {
+		Mesh mesh = new Mesh(true, getNumVertices(), indices.length, attributes);
+		mesh.setVertices(vertices);
+		mesh.setIndices(indices);
+		return mesh;
+	}
+
+	public int getNumVertices() {
+		return vertices.length / (attributes.vertexSize / 4);
+	}
+
+	public float[] getVertices() {
+		return vertices;
+	}
+
+	public short[] getIndices() {
+		return indices;
+	}
+
+	public VertexAttributes getAttributes() {
+		return attributes;
+	}
+}
@@ -0,0 +1,354 @@
+package com.winteralexander.gdx.csg;
+
+import com.badlogic.gdx.math.Plane;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Clips a triangle into convex polygonal regions by planes, then triangulates each region once.
+ * Regions are only split by a plane where the segment along which the plane cuts the triangle
+ * crosses them, so a face cut by many planes is not fragmented further than the cuts require.
+ * As a convex region split by a plane gives 2 convex regions, the regions stay convex and are
+ * triangulated by clipping ears, without ever making a triangle out of collinear vertices.
+ * <p>
+ * A cut ending on an earlier cut only adds a vertex to the region it splits. Before triangulating,
+ * such vertices are also inserted in the edges of the regions they lie on, so that the triangles
+ * of neighbouring regions share their edges without T-junctions.
+ * <p>
+ * Regions are stored as the x, y and z of their vertices, in the winding order of the triangle.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class PolygonClipper {
+	private final float tolerance;
+
+	private final Vector3 normal = new Vector3();
+	private final Array<FloatArray> regions = new Array<>();
+	private final Array<FloatArray> freeRegions = new Array<>();
+	private boolean conforming = true;
+
+	private final FloatArray distances = new FloatArray();
+	private final FloatArray edgeVertices = new FloatArray();
+	private final IntArray remaining = new IntArray();
+	private final Vector3 tmpV1 = new Vector3(),
+			tmpV2 = new Vector3(),
+			tmpV3 = new Vector3(),
+			tmpV4 = new Vector3();
+
+	/**
+	 * @param tolerance distance under which a vertex is considered to be on a plane or on a line
+	 */
+	public PolygonClipper(float tolerance) {
+		if(!(tolerance >= 0f))
+			throw new IllegalArgumentException("tolerance must be positive or zero");
+
+		this.tolerance = tolerance;
+	}
+
+	/**
+	 * Starts clipping a new triangle, which becomes the only region
+	 *
+	 * @param p1 first point of the triangle
+	 * @param p2 second point of the triangle
+	 * @param p3 third point of the triangle
+	 * @param normal normal of the triangle, for which its points are in counterclockwise order
+	 */
+	public void set(Vector3 p1, Vector3 p2, Vector3 p3, Vector3 normal) {
+		ensureNotNull(p1, "p1");
+		ensureNotNull(p2, "p2");
+		ensureNotNull(p3, "p3");
+		ensureNotNull(normal, "normal");
+
+		clear();
+		this.normal.set(normal);
+		FloatArray region = obtainRegion();
+		region.add(p1.x, p1.y, p1.z);
+		region.add(p2.x, p2.y, p2.z);
+		region.add(p3.x, p3.y, p3.z);
+		regions.add(region);
+	}
+
+	/**
+	 * Splits in 2 every region crossed by the given segment that has vertices on both sides of
+	 * the plane. The part behind the plane replaces the region and the part in front of it is
+	 * added after the other regions.
+	 *
+	 * @param plane plane to split the regions with
+	 * @param segmentStart start of the segment along which the plane cuts the triangle
+	 * @param segmentEnd end of the segment along which the plane cuts the triangle
+	 * @return number of regions split
+	 */
+	public int clip(Plane plane, Vector3 segmentStart, Vector3 segmentEnd) {
+		int split = 0;
+		int count = regions.size;
+		for(int i = 0; i < count; i++)
+			if(crosses(regions.get(i), segmentStart, segmentEnd) && split(i, plane))
+				split++;
+		if(split > 0)
+			conforming = false;
+		return split;
+	}
+
+	/**
+	 * Triangulates a region, appending the 9 coordinates of each triangle to the given array.
+	 * Triangles keep the winding order of the region and none of them is degenerate, vertices
+	 * collinear with their neighbours are only used as corners of triangles made with other
+	 * vertices. Vertices of other regions lying on the edges of this region are inserted in it
+	 * first.
+	 *
+	 * @param index index of the region
+	 * @param out array to append the triangles to
+	 */
+	public void triangulate(int index, FloatArray out) {
+		if(!conforming)
+			conform();
+
+		FloatArray region = regions.get(index);
+		remaining.clear();
+		for(int i = 0; i < region.size / 3; i++)
+			remaining.add(i);
+
+		while(remaining.size >= 3) {
+			int ear = -1;
+			for(int i = 0; i < remaining.size; i++) {
+				if(!isCollinear(region,
+						remaining.get((i + remaining.size - 1) % remaining.size),
+						remaining.get(i),
+						remaining.get((i + 1) % remaining.size))) {
+					ear = i;
+					break;
+				}
+			}
+
+			// all the vertices left are on a line
+			if(ear == -1)
+				return;
+
+			int previous = remaining.get((ear + remaining.size - 1) % remaining.size);
+			int next = remaining.get((ear + 1) % remaining.size);
+			out.addAll(region.items, previous * 3, 3);
+			out.addAll(region.items, remaining.get(ear) * 3, 3);
+			out.addAll(region.items, next * 3, 3);
+			remaining.removeIndex(ear);
+		}
+	}
+
+	public int getRegionCount() {
+		return regions.size;
+	}
+
+	/**
+	 * @param index index of the region
+	 * @return x, y and z of the vertices of the region, must not be modified
+	 */
+	public FloatArray getRegion(int index) {
+		return regions.get(index);
+	}
+
+	public void clear() {
+		for(FloatArray region : regions) {
+			region.clear();
+			freeRegions.add(region);
+		}
+		regions.clear();
+		conforming = true;
+	}
+
+	/**
+	 * Inserts in each region the vertices of the other regions lying inside its edges, in order
+	 * along the edges
+	 */
+	private void conform() {
+		for(int i = 0; i < regions.size; i++) {
+			FloatArray region = regions.get(i);
+			FloatArray conformed = obtainRegion();
+			int count = region.size / 3;
+			for(int j = 0; j < count; j++) {
+				conformed.addAll(region.items, j * 3, 3);
+				addEdgeVertices(i, get(region, j, tmpV1), get(region, (j + 1) % count, tmpV2), conformed);
+			}
+
+			if(conformed.size == region.size) {
+				conformed.clear();
+				freeRegions.add(conformed);
+				continue;
+			}
+
+			region.clear();
+			freeRegions.add(region);
+			regions.set(i, conformed);
+		}
+		conforming = true;
+	}
+
+	/**
+	 * Appends to the output the vertices of regions other than the given one that are strictly
+	 * inside the edge from start to end, ordered from start to end
+	 */
+	private void addEdgeVertices(int index, Vector3 start, Vector3 end, FloatArray out) {
+		Vector3 direction = end.sub(start);
+		float length = direction.len();
+		if(length <= tolerance)
+			return;
+		direction.scl(1f / length);
+
+		edgeVertices.clear();
+		for(int i = 0; i < regions.size; i++) {
+			if(i == index)
+				continue;
+
+			FloatArray other = regions.get(i);
+			for(int j = 0; j < other.size / 3; j++) {
+				Vector3 offset = get(other, j, tmpV3).sub(start);
+				float t = offset.dot(direction);
+				if(t <= tolerance || t >= length - tolerance)
+					continue;
+
+				if(offset.mulAdd(direction, -t).len() > tolerance)
+					continue;
+
+				if(!containsWithin(edgeVertices, t))
+					edgeVertices.add(t);
+			}
+		}
+
+		edgeVertices.sort();
+		for(int i = 0; i < edgeVertices.size; i++) {
+			float t = edgeVertices.get(i);
+			out.add(start.x + direction.x * t, start.y + direction.y * t, start.z + direction.z * t);
+		}
+	}
+
+	private boolean containsWithin(FloatArray values, float value) {
+		for(int i = 0; i < values.size; i++)
+			if(abs(values.get(i) - value) <= tolerance)
+				return true;
+		return false;
+	}
+
+	/**
+	 * Checks if the given segment, in the plane of the triangle, goes through the inside of a
+	 * region by clipping it with the edges of the region
+	 */
+	private boolean crosses(FloatArray region, Vector3 segmentStart, Vector3 segmentEnd) {
+		Vector3 direction = tmpV1.set(segmentEnd).sub(segmentStart);
+		float length = direction.len();
+		if(length <= tolerance)
+			return false;
+
+		float tMin = 0f, tMax = 1f;
+		int count = region.size / 3;
+		for(int i = 0; i < count; i++) {
+			Vector3 start = get(region, i, tmpV2);
+			Vector3 edge = get(region, (i + 1) % count, tmpV3).sub(start);
+			Vector3 inward = tmpV4.set(normal).crs(edge).nor();
+
+			// distance of the segment start inside the edge
+			float distance = tmpV3.set(segmentStart).sub(start).dot(inward);
+			float speed = direction.dot(inward);
+
+			// a segment along the edge is considered inside, a plane along it splits nothing
+			if(speed == 0f) {
+				if(distance < -tolerance)
+					return false;
+				continue;
+			}
+
+			float t = -distance / speed;
+			if(speed > 0f)
+				tMin = max(tMin, t);
+			else
+				tMax = min(tMax, t);
+		}
+
+		return (tMax - tMin) * length > tolerance;
+	}
+
+	/**
+	 * Splits a region by a plane if it has vertices on both sides of it
+	 *
+	 * @return true if the region was split, false otherwise
+	 */
+	private boolean split(int index, Plane plane) {
+		FloatArray region = regions.get(index);
+		int count = region.size / 3;
+		Vector3 planeNormal = plane.getNormal();
+
+		boolean anyBack = false, anyFront = false;
+		distances.clear();
+		for(int i = 0; i < count; i++) {
+			float distance = get(region, i, tmpV1).dot(planeNormal) + plane.getD();
+			distances.add(distance);
+			anyBack |= distance < -tolerance;
+			anyFront |= distance > tolerance;
+		}
+
+		if(!anyBack || !anyFront)
+			return false;
+
+		FloatArray back = obtainRegion();
+		FloatArray front = obtainRegion();
+		for(int i = 0; i < count; i++) {
+			int j = (i + 1) % count;
+			int side = side(distances.get(i));
+			int nextSide = side(distances.get(j));
+
+			if(side <= 0)
+				back.addAll(region.items, i * 3, 3);
+			if(side >= 0)
+				front.addAll(region.items, i * 3, 3);
+
+			// vertices on the plane are already on both sides
+			if(side * nextSide >= 0)
+				continue;
+
+			float t = distances.get(i) / (distances.get(i) - distances.get(j));
+			Vector3 point = get(region, i, tmpV1).lerp(get(region, j, tmpV2), t);
+			back.add(point.x, point.y, point.z);
+			front.add(point.x, point.y, point.z);
+		}
+
+		region.clear();
+		freeRegions.add(region);
+		regions.set(index, back);
+		regions.add(front);
+		return true;
+	}
+
+	private int side(float distance) {
+		return distance > tolerance ? 1 : distance < -tolerance ? -1 : 0;
+	}
+
+	/**
+	 * Checks if a vertex of a region is within tolerance of the line between 2 others
+	 */
+	private boolean isCollinear(FloatArray region, int previous, int vertex, int next) {
+		Vector3 start = get(region, previous, tmpV1);
+		Vector3 line = get(region, next, tmpV2).sub(start);
+		Vector3 offset = get(region, vertex, tmpV3).sub(start);
+		float length = line.len();
+		if(length <= tolerance)
+			return true;
+
+		return offset.crs(line).len() / length <= tolerance;
+	}
+
+	private FloatArray obtainRegion() {
+		return freeRegions.size > 0 ? freeRegions.pop() : new FloatArray(12);
+	}
+
+	private static Vector3 get(FloatArray region, int vertex, Vector3 out) {
+		return out.set(region.items[vertex * 3],
+				region.items[vertex * 3 + 1],
+				region.items[vertex * 3 + 2]);
+	}
+}
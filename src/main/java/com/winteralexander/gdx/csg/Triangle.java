@@ -17,6 +17,10 @@ public class Triangle {
 	public final Vector3 p3 = new Vector3();
 
 	private final Vector3 normal = new Vector3();
+	// positions the normal was computed from, as the points can be modified directly
+	private float normalX1 = Float.NaN, normalY1, normalZ1,
+			normalX2, normalY2, normalZ2,
+			normalX3, normalY3, normalZ3;
 
 	private final Vector3 tmpBarycentric = new Vector3();
 
@@ -46,14 +50,46 @@ public class Triangle {
 		this(other.p1, other.p2, other.p3);
 	}
 
+	/**
+	 * Gets the normal of this triangle. The normal is only computed again when the points have
+	 * changed since the last call. The returned vector is owned by this triangle.
+	 *
+	 * @return normal of this triangle
+	 */
 	public Vector3 getNormal() {
-		normal.set(p3.x - p1.x, p3.y - p1.y, p3.z - p1.z);
-		normal.crs(p2.x - p1.x, p2.y - p1.y, p2.z - p1.z);
-		normal.scl(-1f).nor();
+		if(p1.x != normalX1 || p1.y != normalY1 || p1.z != normalZ1
+		|| p2.x != normalX2 || p2.y != normalY2 || p2.z != normalZ2
+		|| p3.x != normalX3 || p3.y != normalY3 || p3.z != normalZ3) {
+			computeNormal(p1.x, p1.y, p1.z, p2.x, p2.y, p2.z, p3.x, p3.y, p3.z, normal);
+			setNormalPoints();
+		}
 
 		return normal;
 	}
 
+	private void setNormalPoints() {
+		normalX1 = p1.x; normalY1 = p1.y; normalZ1 = p1.z;
+		normalX2 = p2.x; normalY2 = p2.y; normalZ2 = p2.z;
+		normalX3 = p3.x; normalY3 = p3.y; normalZ3 = p3.z;
+	}
+
+	/**
+	 * Computes the normal of the triangle with the given points
+	 *
+	 * @param out vector to set to the normal
+	 * @return the provided vector
+	 */
+	public static Vector3 computeNormal(float x1, float y1, float z1,
+	                                    float x2, float y2, float z2,
+	                                    float x3, float y3, float z3,
+	                                    Vector3 out) {
+		out.set(x3 - x1, y3 - y1, z3 - z1);
+		out.crs(x2 - x1, y2 - y1, z2 - z1);
+		out.scl(-1f).nor();
+
+		return out;
+	}
+
 	public Triangle set(float x1, float y1, float z1,
 	                    float x2, float y2, float z2,
 	                    float x3, float y3, float z3) {
@@ -80,6 +116,23 @@ public class Triangle {
 		return this;
 	}
 
+	/**
+	 * Sets the points of this triangle along with their normal when it is already known, to not
+	 * compute it again
+	 *
+	 * @param p1 first point
+	 * @param p2 second point
+	 * @param p3 third point
+	 * @param normal normal of the triangle formed by these points
+	 * @return this triangle
+	 */
+	public Triangle set(Vector3 p1, Vector3 p2, Vector3 p3, Vector3 normal) {
+		set(p1, p2, p3);
+		this.normal.set(normal);
+		setNormalPoints();
+		return this;
+	}
+
 	public Triangle set(Triangle other) {
 		set(other.p1, other.p2, other.p3);
 		return this;
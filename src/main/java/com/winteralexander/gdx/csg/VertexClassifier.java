@@ -0,0 +1,68 @@
+package com.winteralexander.gdx.csg;
+
+import com.winteralexander.gdx.csg.CSGMesh.InsideStatus;
+
+import java.util.concurrent.RecursiveAction;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+
+/**
+ * Computes the {@link InsideStatus} of a range of vertices against another {@link CSGMesh}. The
+ * status code of each vertex (see {@link InsideStatus#toCode()}) is written at the index of that
+ * vertex in the provided status array, and each classifier has its own ray casting temporaries,
+ * so classifiers working on different ranges of the same vertices can run concurrently as tasks
+ * of a {@link java.util.concurrent.ForkJoinPool}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class VertexClassifier extends RecursiveAction {
+	private final MeshVertex[] vertices;
+	private final int start, end;
+	private final CSGMesh other;
+	private final byte[] status;
+
+	private final CSGMesh.RayCastContext rayCastContext = new CSGMesh.RayCastContext();
+
+	/**
+	 * @param vertices vertices to classify
+	 * @param start index of the first vertex to classify
+	 * @param end index after the last vertex to classify
+	 * @param other mesh to classify the vertices against
+	 * @param status array receiving the status code of each vertex, at the index of the vertex
+	 */
+	public VertexClassifier(MeshVertex[] vertices,
+	                        int start,
+	                        int end,
+	                        CSGMesh other,
+	                        byte[] status) {
+		ensureNotNull(vertices, "vertices");
+		ensureNotNull(other, "other");
+		ensureNotNull(status, "status");
+		if(start < 0 || end > vertices.length || start > end)
+			throw new IllegalArgumentException("Invalid range of vertices [" + start + ", " + end + ")");
+		if(status.length < vertices.length)
+			throw new IllegalArgumentException("status must have one entry per vertex");
+
+		this.vertices = vertices;
+		this.start = start;
+		this.end = end;
+		this.other = other;
+		this.status = status;
+	}
+
+	@Override
+	protected void compute() {
+		for(int i = start; i < end; i++)
+			status[i] = other.computeInsideStatus(vertices[i].getPosition(), rayCastContext).toCode();
+	}
+
+	public int getStart() {
+		return start;
+	}
+
+	public int getEnd() {
+		return end;
+	}
+}
@@ -0,0 +1,121 @@
+package com.winteralexander.gdx.csg;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+
+/**
+ * Spatial hash of the vertices created while splitting faces, used to weld a new vertex to an
+ * existing one at the same position. Each vertex is kept along with the face that was split when
+ * it was created, as vertices are only shared between faces with the same normal.
+ * <p>
+ * Positions are quantized to cells at least as large as the tolerance, so any vertex within
+ * tolerance of a position is in the cell of that position or in one of its 26 neighbours.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class VertexHash {
+	// smallest cell size, so that a tolerance of zero does not make all positions overflow
+	private static final float MIN_CELL_SIZE = 1e-6f;
+
+	private final float tolerance;
+	private final float cellSize;
+
+	private final Array<MeshVertex> vertices = new Array<>();
+	private final Array<MeshFace> faces = new Array<>();
+	// indices of the vertices in each cell, in order of insertion
+	private final LongMap<IntArray> cells = new LongMap<>();
+
+	/**
+	 * @param tolerance distance on each axis under which two positions are considered equal
+	 */
+	public VertexHash(float tolerance) {
+		if(!(tolerance >= 0f))
+			throw new IllegalArgumentException("tolerance must be positive or zero");
+
+		this.tolerance = tolerance;
+		this.cellSize = Math.max(tolerance, MIN_CELL_SIZE);
+	}
+
+	/**
+	 * Adds a vertex to the hash
+	 *
+	 * @param vertex vertex to add
+	 * @param face face that was split when the vertex was created
+	 */
+	public void add(MeshVertex vertex, MeshFace face) {
+		ensureNotNull(vertex, "vertex");
+		ensureNotNull(face, "face");
+
+		Vector3 position = vertex.getPosition();
+		long key = key(cell(position.x), cell(position.y), cell(position.z));
+		IntArray cell = cells.get(key);
+		if(cell == null) {
+			cell = new IntArray(2);
+			cells.put(key, cell);
+		}
+		cell.add(vertices.size);
+		vertices.add(vertex);
+		faces.add(face);
+	}
+
+	/**
+	 * Finds the first added vertex within tolerance of the given position whose face has the
+	 * given normal, within tolerance as well.
+	 *
+	 * @param position position of the vertex to find
+	 * @param normal normal of the face the vertex is for
+	 * @return matching vertex, or null if there is none
+	 */
+	public MeshVertex find(Vector3 position, Vector3 normal) {
+		long x = cell(position.x), y = cell(position.y), z = cell(position.z);
+		int found = Integer.MAX_VALUE;
+
+		for(int dx = -1; dx <= 1; dx++)
+			for(int dy = -1; dy <= 1; dy++)
+				for(int dz = -1; dz <= 1; dz++) {
+					IntArray cell = cells.get(key(x + dx, y + dy, z + dz));
+					if(cell == null)
+						continue;
+
+					for(int i = 0; i < cell.size; i++) {
+						int index = cell.get(i);
+						if(index < found
+								&& vertices.get(index).getPosition().epsilonEquals(position, tolerance)
+								&& faces.get(index).getNormal().epsilonEquals(normal, tolerance))
+							found = index;
+					}
+				}
+
+		return found == Integer.MAX_VALUE ? null : vertices.get(found);
+	}
+
+	public void clear() {
+		vertices.clear();
+		faces.clear();
+		cells.clear();
+	}
+
+	public float getTolerance() {
+		return tolerance;
+	}
+
+	public int size() {
+		return vertices.size;
+	}
+
+	private long cell(float value) {
+		// with the default tolerance of 1e-5, an int would saturate past 21474 units from the origin
+		return (long)Math.floor(value / cellSize);
+	}
+
+	private static long key(long x, long y, long z) {
+		// cells far apart may share a key, the positions are always compared
+		return (x * 73856093L) ^ (y * 19349663L) ^ (z * 83492791L);
+	}
+}
@@ -0,0 +1,59 @@
+package com.winteralexander.gdx.csg;
+
+/**
+ * Events of the CSG operations and of their phases, emitted as Java Flight Recorder events. This
+ * is the Java 11 version of this class in the multi-release jar, the Java 8 version does nothing.
+ * The JFR module is optional in Java 11 runtimes, when it is missing the events are not created
+ * and this class does nothing either.
+ * <p>
+ * An event is begun before the work it describes and the object returned is given back to end
+ * it. The sizes of the meshes are those when the event begins, the size of the result those
+ * when it ends.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class CSGEvents {
+	private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+	private CSGEvents() {}
+
+	/**
+	 * @param operation name of the operation
+	 * @param first first operand
+	 * @param second second operand
+	 * @return event to end with {@link #endOperation(Object, CSGMesh)}
+	 */
+	public static Object beginOperation(String operation, CSGMesh first, CSGMesh second) {
+		return AVAILABLE ? FlightEvents.beginOperation(operation, first, second) : null;
+	}
+
+	/**
+	 * @param event event returned by {@link #beginOperation(String, CSGMesh, CSGMesh)}
+	 * @param result result of the operation
+	 */
+	public static void endOperation(Object event, CSGMesh result) {
+		if(event != null)
+			FlightEvents.endOperation(event, result);
+	}
+
+	/**
+	 * @param phase name of the phase
+	 * @param mesh mesh the phase works on, null if none
+	 * @param other other operand, null if none
+	 * @return event to end with {@link #endPhase(Object, CSGMesh)}
+	 */
+	public static Object beginPhase(String phase, CSGMesh mesh, CSGMesh other) {
+		return AVAILABLE ? FlightEvents.beginPhase(phase, mesh, other) : null;
+	}
+
+	/**
+	 * @param event event returned by {@link #beginPhase(String, CSGMesh, CSGMesh)}
+	 * @param result mesh resulting from the phase, null if none
+	 */
+	public static void endPhase(Object event, CSGMesh result) {
+		if(event != null)
+			FlightEvents.endPhase(event, result);
+	}
+}
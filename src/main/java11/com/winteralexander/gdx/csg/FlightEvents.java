@@ -0,0 +1,132 @@
+package com.winteralexander.gdx.csg;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder events of {@link CSGEvents}, only loaded when the JFR module is present.
+ * Events are only created when they are enabled in the running recordings.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+class FlightEvents {
+	private static final OperationEvent OPERATION = new OperationEvent();
+	private static final PhaseEvent PHASE = new PhaseEvent();
+
+	private FlightEvents() {}
+
+	static Object beginOperation(String operation, CSGMesh first, CSGMesh second) {
+		if(!OPERATION.isEnabled())
+			return null;
+
+		OperationEvent event = new OperationEvent();
+		event.operation = operation;
+		event.firstFaces = first.getFaces().size;
+		event.firstVertices = first.getVertices().size;
+		event.secondFaces = second.getFaces().size;
+		event.secondVertices = second.getVertices().size;
+		event.begin();
+		return event;
+	}
+
+	static void endOperation(Object event, CSGMesh result) {
+		OperationEvent operationEvent = (OperationEvent)event;
+		operationEvent.end();
+		if(!operationEvent.shouldCommit())
+			return;
+
+		operationEvent.resultFaces = result.getFaces().size;
+		operationEvent.resultVertices = result.getVertices().size;
+		operationEvent.commit();
+	}
+
+	static Object beginPhase(String phase, CSGMesh mesh, CSGMesh other) {
+		if(!PHASE.isEnabled())
+			return null;
+
+		PhaseEvent event = new PhaseEvent();
+		event.phase = phase;
+		if(mesh != null) {
+			event.faces = mesh.getFaces().size;
+			event.vertices = mesh.getVertices().size;
+		}
+		if(other != null) {
+			event.otherFaces = other.getFaces().size;
+			event.otherVertices = other.getVertices().size;
+		}
+		event.begin();
+		return event;
+	}
+
+	static void endPhase(Object event, CSGMesh result) {
+		PhaseEvent phaseEvent = (PhaseEvent)event;
+		phaseEvent.end();
+		if(!phaseEvent.shouldCommit())
+			return;
+
+		if(result != null) {
+			phaseEvent.resultFaces = result.getFaces().size;
+			phaseEvent.resultVertices = result.getVertices().size;
+		}
+		phaseEvent.commit();
+	}
+
+	@Name("com.winteralexander.gdx.csg.Operation")
+	@Label("CSG Operation")
+	@Description("Subtraction, union or intersection of 2 meshes")
+	@Category("gdx-csg")
+	static class OperationEvent extends Event {
+		@Label("Operation")
+		String operation;
+
+		@Label("First Faces")
+		int firstFaces;
+
+		@Label("First Vertices")
+		int firstVertices;
+
+		@Label("Second Faces")
+		int secondFaces;
+
+		@Label("Second Vertices")
+		int secondVertices;
+
+		@Label("Result Faces")
+		int resultFaces;
+
+		@Label("Result Vertices")
+		int resultVertices;
+	}
+
+	@Name("com.winteralexander.gdx.csg.Phase")
+	@Label("CSG Phase")
+	@Description("Step of a CSG operation or conversion of a mesh")
+	@Category("gdx-csg")
+	static class PhaseEvent extends Event {
+		@Label("Phase")
+		String phase;
+
+		@Label("Faces")
+		int faces;
+
+		@Label("Vertices")
+		int vertices;
+
+		@Label("Other Faces")
+		int otherFaces;
+
+		@Label("Other Vertices")
+		int otherVertices;
+
+		@Label("Result Faces")
+		int resultFaces;
+
+		@Label("Result Vertices")
+		int resultVertices;
+	}
+}
@@ -0,0 +1,160 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.csg.AABBTree;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link AABBTree}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class AABBTreeTest {
+	@Test
+	public void testQueryMatchesBruteForce() {
+		Random random = new Random(42);
+		AABBTree<Integer> tree = new AABBTree<>();
+
+		float[][] boxes = new float[500][6];
+		for(int i = 0; i < boxes.length; i++) {
+			float x = random.nextFloat() * 100f;
+			float y = random.nextFloat() * 100f;
+			float z = random.nextFloat() * 100f;
+			boxes[i][0] = x;
+			boxes[i][1] = y;
+			boxes[i][2] = z;
+			boxes[i][3] = x + random.nextFloat() * 5f;
+			boxes[i][4] = y + random.nextFloat() * 5f;
+			boxes[i][5] = z + random.nextFloat() * 5f;
+			tree.add(i, boxes[i][0], boxes[i][1], boxes[i][2],
+					boxes[i][3], boxes[i][4], boxes[i][5]);
+		}
+		tree.build();
+
+		Array<Integer> result = new Array<>();
+		for(int i = 0; i < 200; i++) {
+			float x = random.nextFloat() * 100f;
+			float y = random.nextFloat() * 100f;
+			float z = random.nextFloat() * 100f;
+			float size = random.nextFloat() * 10f;
+
+			result.clear();
+			tree.query(x, y, z, x + size, y + size, z + size, result);
+
+			int expected = 0;
+			for(int j = 0; j < boxes.length; j++) {
+				boolean overlap = boxes[j][0] <= x + size && boxes[j][3] >= x
+						&& boxes[j][1] <= y + size && boxes[j][4] >= y
+						&& boxes[j][2] <= z + size && boxes[j][5] >= z;
+				if(overlap) {
+					expected++;
+					assertTrue(result.contains(j, false));
+				}
+			}
+			assertEquals(expected, result.size);
+		}
+	}
+
+	@Test
+	public void testIncrementalChanges() {
+		Random random = new Random(7);
+		AABBTree<Integer> tree = new AABBTree<>();
+
+		float[][] boxes = new float[300][];
+		for(int i = 0; i < 100; i++) {
+			boxes[i] = randomBox(random);
+			tree.add(i, boxes[i][0], boxes[i][1], boxes[i][2], boxes[i][3], boxes[i][4], boxes[i][5]);
+		}
+		tree.build();
+
+		for(int i = 100; i < boxes.length; i++) {
+			boxes[i] = randomBox(random);
+			tree.add(i, boxes[i][0], boxes[i][1], boxes[i][2], boxes[i][3], boxes[i][4], boxes[i][5]);
+		}
+
+		for(int i = 0; i < boxes.length; i += 3) {
+			assertTrue(tree.remove(i));
+			boxes[i] = null;
+		}
+
+		for(int i = 1; i < boxes.length; i += 3) {
+			boxes[i] = randomBox(random);
+			tree.update(i, boxes[i][0], boxes[i][1], boxes[i][2], boxes[i][3], boxes[i][4], boxes[i][5]);
+		}
+
+		assertEquals(200, tree.size());
+
+		Array<Integer> result = new Array<>();
+		for(int i = 0; i < 200; i++) {
+			float[] query = randomBox(random);
+
+			result.clear();
+			tree.query(query[0], query[1], query[2], query[3], query[4], query[5], result);
+
+			int expected = 0;
+			for(int j = 0; j < boxes.length; j++) {
+				if(boxes[j] == null)
+					continue;
+
+				boolean overlap = boxes[j][0] <= query[3] && boxes[j][3] >= query[0]
+						&& boxes[j][1] <= query[4] && boxes[j][4] >= query[1]
+						&& boxes[j][2] <= query[5] && boxes[j][5] >= query[2];
+				if(overlap) {
+					expected++;
+					assertTrue(result.contains(j, false));
+				}
+			}
+			assertEquals(expected, result.size);
+		}
+	}
+
+	@Test
+	public void testIncrementalChangesKeepTreeBalanced() {
+		AABBTree<Integer> tree = new AABBTree<>();
+		tree.build();
+
+		// items added in order along a line, the worst case for an unbalanced incremental tree
+		for(int i = 0; i < 1024; i++)
+			tree.add(i, i, 0f, 0f, i + 0.5f, 1f, 1f);
+		assertTrue(tree.getHeight() <= 20);
+
+		for(int i = 0; i < 1024; i += 2)
+			tree.remove(i);
+		assertTrue(tree.getHeight() <= 18);
+
+		Array<Integer> result = new Array<>();
+		tree.query(100.25f, 0f, 0f, 110.25f, 1f, 1f, result);
+		assertEquals(5, result.size);
+		for(int i = 101; i < 110; i += 2)
+			assertTrue(result.contains(i, false));
+	}
+
+	private static float[] randomBox(Random random) {
+		float x = random.nextFloat() * 100f;
+		float y = random.nextFloat() * 100f;
+		float z = random.nextFloat() * 100f;
+		return new float[] {
+				x, y, z,
+				x + random.nextFloat() * 10f,
+				y + random.nextFloat() * 10f,
+				z + random.nextFloat() * 10f
+		};
+	}
+
+	@Test
+	public void testEmptyTree() {
+		AABBTree<Integer> tree = new AABBTree<>();
+		tree.build();
+
+		Array<Integer> result = new Array<>();
+		tree.query(0f, 0f, 0f, 1f, 1f, 1f, result);
+		assertEquals(0, result.size);
+	}
+}
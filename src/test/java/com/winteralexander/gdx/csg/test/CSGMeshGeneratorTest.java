@@ -0,0 +1,168 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.winteralexander.gdx.csg.CSGConfiguration;
+import com.winteralexander.gdx.csg.CSGMesh;
+import com.winteralexander.gdx.csg.CSGMeshGenerator;
+import com.winteralexander.gdx.csg.CSGUtil;
+import com.winteralexander.gdx.csg.MeshFace;
+import com.winteralexander.gdx.csg.MeshVertex;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CSGMeshGenerator}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class CSGMeshGeneratorTest {
+	private static final VertexAttributes POSITION_NORMAL = new VertexAttributes(VertexAttribute.Position(),
+			VertexAttribute.Normal());
+	private static final VertexAttributes TEXTURED = new VertexAttributes(VertexAttribute.Position(),
+			VertexAttribute.Normal(),
+			VertexAttribute.ColorUnpacked(),
+			VertexAttribute.TexCoords(0));
+
+	@Test
+	public void testShapesAreClosedAndFaceOutward() {
+		Vector3 center = new Vector3(1f, -2f, 3f);
+		for(VertexAttributes attributes : new VertexAttributes[] { POSITION_NORMAL, TEXTURED }) {
+			CSGMesh box = CSGMeshGenerator.box(center, 1f, 2f, 3f, 4, attributes);
+			assertEquals(12 * 4 * 4, box.getFaces().size);
+			assertShape(box, 6f, 1e-4f);
+
+			CSGMesh sphere = CSGMeshGenerator.sphere(center, 2f, 32, 16, attributes);
+			assertEquals(32 * (2 * 16 - 2), sphere.getFaces().size);
+			assertShape(sphere, 4f / 3f * MathUtils.PI * 8f, 0.03f);
+
+			CSGMesh icosphere = CSGMeshGenerator.icosphere(center, 2f, 3, attributes);
+			assertEquals(20 * 64, icosphere.getFaces().size);
+			assertShape(icosphere, 4f / 3f * MathUtils.PI * 8f, 0.03f);
+
+			// the sides of a cylinder are a regular polygon, of known area
+			CSGMesh cylinder = CSGMeshGenerator.cylinder(center, 1f, 2f, 16, attributes);
+			assertEquals(4 * 16, cylinder.getFaces().size);
+			assertShape(cylinder, 8f * MathUtils.sin(MathUtils.PI2 / 16f) * 2f, 1e-3f);
+
+			CSGMesh torus = CSGMeshGenerator.torus(center, 2f, 0.5f, 48, 24, attributes);
+			assertEquals(2 * 48 * 24, torus.getFaces().size);
+			assertShape(torus, 2f * MathUtils.PI * MathUtils.PI * 2f * 0.25f, 0.03f);
+
+			// the hills go up and down, the volume stays around that of the block without them
+			CSGMesh terrain = CSGMeshGenerator.terrain(center, 4f, 3f, 2f, 16, 0.5f, 7, attributes);
+			assertEquals(4 * 16 * 18, terrain.getFaces().size);
+			assertShape(terrain, 24f, 0.25f);
+		}
+	}
+
+	@Test
+	public void testAttributesAreFilled() {
+		CSGMesh sphere = CSGMeshGenerator.sphere(new Vector3(), 1f, 8, 4, TEXTURED);
+		for(MeshVertex vertex : sphere.getVertices()) {
+			float[] other = vertex.getOtherAttributes();
+			assertEquals(6, other.length);
+			for(int i = 0; i < 4; i++)
+				assertEquals(1f, other[i], 0f);
+			assertTrue(other[4] >= 0f && other[4] <= 1f);
+			assertTrue(other[5] >= 0f && other[5] <= 1f);
+			assertEquals(1f, vertex.getNormal().len(), 1e-4f);
+		}
+
+		CSGMesh box = CSGMeshGenerator.box(new Vector3(), 1f, 1f, 1f, 1, POSITION_NORMAL);
+		for(MeshVertex vertex : box.getVertices())
+			assertEquals(0, vertex.getOtherAttributes().length);
+	}
+
+	@Test
+	public void testTerrainDependsOnlyOnSeed() {
+		CSGMesh first = CSGMeshGenerator.terrain(new Vector3(), 4f, 4f, 2f, 8, 0.5f, 1, POSITION_NORMAL);
+		CSGMesh same = CSGMeshGenerator.terrain(new Vector3(), 4f, 4f, 2f, 8, 0.5f, 1, POSITION_NORMAL);
+		CSGMesh other = CSGMeshGenerator.terrain(new Vector3(), 4f, 4f, 2f, 8, 0.5f, 2, POSITION_NORMAL);
+
+		float difference = 0f;
+		for(int i = 0; i < first.getVertices().size; i++) {
+			assertEquals(first.getVertices().get(i).getPosition(), same.getVertices().get(i).getPosition());
+			difference += first.getVertices().get(i).getPosition()
+					.dst(other.getVertices().get(i).getPosition());
+		}
+		assertTrue(difference > 1e-3f);
+	}
+
+	@Test
+	public void testSubtractionOfGeneratedShapes() {
+		CSGMesh box = CSGMeshGenerator.box(new Vector3(), 2f, 2f, 2f, 4, POSITION_NORMAL);
+		CSGMesh sphere = CSGMeshGenerator.sphere(new Vector3(1f, 1f, 1f), 1f, 32, 16, POSITION_NORMAL);
+		float sphereVolume = volume(sphere);
+
+		CSGConfiguration config = new CSGConfiguration();
+		for(boolean regions : new boolean[] { false, true }) {
+			config.enableRegionClassification = regions;
+
+			// the sphere is centered on a corner of the box, an eighth of it is inside
+			CSGMesh result = CSGUtil.subtraction(box, sphere, config);
+			assertEquals(8f - sphereVolume / 8f, volume(result), 8f * 1e-3f);
+		}
+	}
+
+	@Test
+	public void testPolygonClippingOfGeneratedShapes() {
+		CSGMesh box = CSGMeshGenerator.box(new Vector3(), 2f, 2f, 2f, 4, POSITION_NORMAL);
+		CSGMesh sphere = CSGMeshGenerator.sphere(new Vector3(1f, 1f, 1f), 1f, 32, 16, POSITION_NORMAL);
+		float sphereVolume = volume(sphere);
+
+		CSGConfiguration config = new CSGConfiguration();
+		config.enablePolygonClipping = true;
+		for(boolean regions : new boolean[] { false, true }) {
+			config.enableRegionClassification = regions;
+
+			CSGMesh subtraction = CSGUtil.subtraction(box, sphere, config);
+			assertEquals(8f - sphereVolume / 8f, volume(subtraction), 8f * 1e-3f);
+
+			CSGMesh union = CSGUtil.union(box, sphere, config);
+			assertEquals(8f + sphereVolume * 7f / 8f, volume(union), 8f * 1e-3f);
+		}
+	}
+
+	/**
+	 * Asserts a mesh is closed, with each edge going the other way on the face across it, and
+	 * that it faces outward with about the expected volume
+	 */
+	private static void assertShape(CSGMesh mesh, float expectedVolume, float relativeTolerance) {
+		ObjectIntMap<String> edges = new ObjectIntMap<>();
+		for(MeshFace face : mesh.getFaces()) {
+			for(int i = 0; i < 3; i++) {
+				Vector3 from = face.getVertices()[i].getPosition();
+				Vector3 to = face.getVertices()[(i + 1) % 3].getPosition();
+				edges.getAndIncrement(key(from) + key(to), 0, 1);
+				edges.getAndIncrement(key(to) + key(from), 0, -1);
+			}
+		}
+		for(ObjectIntMap.Entry<String> edge : edges)
+			assertEquals("Unmatched edge " + edge.key, 0, edge.value);
+
+		assertEquals(expectedVolume, volume(mesh), expectedVolume * relativeTolerance);
+	}
+
+	private static String key(Vector3 position) {
+		return Math.round(position.x * 1e3f) + "," + Math.round(position.y * 1e3f) + ","
+				+ Math.round(position.z * 1e3f) + ";";
+	}
+
+	/**
+	 * Signed volume of a closed mesh, positive if its faces face outward
+	 */
+	private static float volume(CSGMesh mesh) {
+		double volume = 0.0;
+		for(MeshFace face : mesh.getFaces())
+			volume += face.getPosition1().dot(new Vector3(face.getPosition2()).crs(face.getPosition3())) / 6.0;
+		return (float)volume;
+	}
+}
@@ -0,0 +1,67 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.csg.CSGMesh;
+import com.winteralexander.gdx.csg.CSGMeshGenerator;
+import com.winteralexander.gdx.csg.MeshFace;
+import com.winteralexander.gdx.csg.MeshVertex;
+import org.junit.Test;
+
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CSGMesh}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class CSGMeshTest {
+	@Test
+	public void testDeleteFacelessVerticesKeepsOrder() {
+		CSGMesh mesh = new CSGMesh();
+		Array<MeshVertex> vertices = mesh.getVertices();
+		for(int i = 0; i < 8; i++)
+			vertices.add(new MeshVertex(new Vector3(i, i % 2, 0f),
+					new Vector3(0f, 0f, 1f), new Vector3(), new float[0]));
+
+		MeshVertex[] expected = new MeshVertex[] {
+				vertices.get(1), vertices.get(2), vertices.get(4), vertices.get(5), vertices.get(7)
+		};
+		mesh.getFaces().add(new MeshFace(vertices.get(1), vertices.get(4), vertices.get(2)));
+		mesh.getFaces().add(new MeshFace(vertices.get(4), vertices.get(7), vertices.get(5)));
+
+		mesh.deleteFacelessVertices();
+
+		assertEquals(expected.length, vertices.size);
+		for(int i = 0; i < expected.length; i++)
+			assertSame(expected[i], vertices.get(i));
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testBoundaryFacesMatchIsBoundaryFace() {
+		VertexAttributes attributes = new VertexAttributes(VertexAttribute.Position(), VertexAttribute.Normal());
+		CSGMesh mesh = CSGMeshGenerator.box(new Vector3(), 1f, 1f, 1f, 2, attributes);
+		// has its side facing +x on the one of the first box
+		CSGMesh other = CSGMeshGenerator.box(new Vector3(0.25f, 0f, 0f), 0.5f, 1f, 1f, 2, attributes);
+		mesh.splitTriangles(other);
+
+		HashSet<MeshFace> boundaryFaces = mesh.getBoundaryFaces();
+		int count = 0;
+		for(MeshFace face : mesh.getFaces()) {
+			assertEquals(mesh.isBoundaryFace(face), boundaryFaces.contains(face));
+			if(mesh.isBoundaryFace(face))
+				count++;
+		}
+		assertEquals(count, boundaryFaces.size());
+		assertTrue(count > 0);
+	}
+}
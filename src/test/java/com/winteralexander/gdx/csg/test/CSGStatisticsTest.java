@@ -0,0 +1,128 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.winteralexander.gdx.csg.CSGConfiguration;
+import com.winteralexander.gdx.csg.CSGMesh;
+import com.winteralexander.gdx.csg.CSGStatistics;
+import com.winteralexander.gdx.csg.CSGStatistics.Phase;
+import com.winteralexander.gdx.csg.CSGUtil;
+import com.winteralexander.gdx.csg.FaceIntersections;
+import com.winteralexander.gdx.csg.IntersectorPlus;
+import com.winteralexander.gdx.csg.IntersectorPlus.TriangleIntersectionResult;
+import com.winteralexander.gdx.csg.MeshFace;
+import com.winteralexander.gdx.csg.SegmentPlus;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static com.winteralexander.gdx.csg.test.TestMeshes.read;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CSGStatistics}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class CSGStatisticsTest {
+	@Test
+	public void testSubtractionFillsStatistics() throws IOException {
+		CSGMesh minuend = read("minuend.csgmesh");
+		CSGMesh subtrahend = read("subtrahend.csgmesh");
+
+		CSGConfiguration config = new CSGConfiguration();
+		config.statistics = new CSGStatistics();
+		CSGMesh result = CSGUtil.subtraction(minuend, subtrahend, config);
+		CSGStatistics statistics = config.statistics;
+
+		assertEquals(minuend.getFaces().size, statistics.getFirstFaces());
+		assertEquals(subtrahend.getVertices().size, statistics.getSecondVertices());
+		assertEquals(result.getFaces().size, statistics.getResultFaces());
+		assertEquals(result.getVertices().size, statistics.getResultVertices());
+
+		// every pair of faces with overlapping bounds is tested once, then the fragments of the
+		// split faces are tested again
+		long[] expected = testPairs(minuend, subtrahend, config.tolerance);
+		long pairs = 0L;
+		for(TriangleIntersectionResult outcome : TriangleIntersectionResult.values()) {
+			assertTrue(statistics.getIntersectionCount(outcome) >= expected[outcome.ordinal()]);
+			pairs += expected[outcome.ordinal()];
+		}
+		assertTrue(statistics.getFacePairsTested() > pairs);
+		assertTrue(statistics.getIntersectionCount(TriangleIntersectionResult.NONCOPLANAR_FACE_FACE) > 0L);
+		assertTrue(statistics.getRayCasts() > 0L);
+
+		for(Phase phase : Phase.values())
+			assertTrue(statistics.getTime(phase) >= 0L);
+		assertTrue(statistics.getTime(Phase.SPLIT) > 0L);
+		assertTrue(statistics.getTotalTime() >= statistics.getTime(Phase.SPLIT));
+
+		// the same result is obtained without statistics
+		CSGMesh withoutStatistics = CSGUtil.subtraction(minuend, subtrahend, new CSGConfiguration());
+		assertEquals(withoutStatistics.getFaces().size, result.getFaces().size);
+	}
+
+	@Test
+	public void testIntersectionsCountEachPairOnce() throws IOException {
+		CSGMesh first = read("minuend.csgmesh");
+		CSGMesh second = read("subtrahend.csgmesh");
+
+		CSGStatistics statistics = new CSGStatistics();
+		new FaceIntersections().compute(first, second, 1e-5f, statistics);
+
+		long[] expected = testPairs(first, second, 1e-5f);
+		long pairs = 0L;
+		for(TriangleIntersectionResult outcome : TriangleIntersectionResult.values()) {
+			assertEquals(expected[outcome.ordinal()], statistics.getIntersectionCount(outcome));
+			pairs += expected[outcome.ordinal()];
+		}
+		assertEquals(pairs, statistics.getFacePairsTested());
+		assertTrue(pairs > 0L);
+	}
+
+	@Test
+	public void testStatisticsDescribeLastOperation() throws IOException {
+		CSGMesh minuend = read("minuend.csgmesh");
+		CSGMesh subtrahend = read("subtrahend.csgmesh");
+
+		CSGConfiguration config = new CSGConfiguration();
+		config.statistics = new CSGStatistics();
+		CSGUtil.subtraction(minuend, subtrahend, config);
+		long pairs = config.statistics.getFacePairsTested();
+		int merges = config.statistics.getMerges();
+
+		CSGUtil.subtraction(minuend, subtrahend, config);
+		assertEquals(pairs, config.statistics.getFacePairsTested());
+		assertEquals(merges, config.statistics.getMerges());
+	}
+
+	/**
+	 * Tests every pair of faces of the meshes whose bounds grown by the tolerance overlap
+	 *
+	 * @return number of pairs per result, indexed by the ordinal of the result
+	 */
+	private static long[] testPairs(CSGMesh first, CSGMesh second, float tolerance) {
+		long[] counts = new long[TriangleIntersectionResult.values().length];
+		SegmentPlus segment = new SegmentPlus();
+		BoundingBox bounds = new BoundingBox(), otherBounds = new BoundingBox();
+		for(MeshFace face : first.getFaces()) {
+			face.getBounds(bounds);
+			for(MeshFace otherFace : second.getFaces()) {
+				otherFace.getBounds(otherBounds);
+				if(bounds.min.x - tolerance > otherBounds.max.x
+				|| bounds.min.y - tolerance > otherBounds.max.y
+				|| bounds.min.z - tolerance > otherBounds.max.z
+				|| bounds.max.x + tolerance < otherBounds.min.x
+				|| bounds.max.y + tolerance < otherBounds.min.y
+				|| bounds.max.z + tolerance < otherBounds.min.z)
+					continue;
+
+				counts[IntersectorPlus.intersectTriangleTriangle(face.getTriangle(),
+						otherFace.getTriangle(), tolerance, segment).ordinal()]++;
+			}
+		}
+		return counts;
+	}
+}
@@ -0,0 +1,46 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.badlogic.gdx.math.Vector3;
+import com.winteralexander.gdx.csg.EdgeVertexCache;
+import com.winteralexander.gdx.csg.MeshVertex;
+import org.junit.Test;
+
+import static com.winteralexander.gdx.csg.test.TestMeshes.vertex;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests for {@link EdgeVertexCache}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class EdgeVertexCacheTest {
+	@Test
+	public void testFindInEitherDirection() {
+		EdgeVertexCache cache = new EdgeVertexCache(1e-3f);
+		MeshVertex a = vertex(0f, 0f, 0f);
+		MeshVertex b = vertex(1f, 0f, 0f);
+		MeshVertex vertex = vertex(0.25f, 0f, 0f);
+		cache.add(a, b, vertex);
+
+		assertSame(vertex, cache.find(a, b, new Vector3(0.2505f, 0f, 0f)));
+		assertSame(vertex, cache.find(b, a, new Vector3(0.2505f, 0f, 0f)));
+		assertNull(cache.find(a, b, new Vector3(0.75f, 0f, 0f)));
+	}
+
+	@Test
+	public void testEdgeMustMatch() {
+		EdgeVertexCache cache = new EdgeVertexCache(1e-3f);
+		MeshVertex a = vertex(0f, 0f, 0f);
+		MeshVertex b = vertex(1f, 0f, 0f);
+		cache.add(a, b, vertex(0.5f, 0f, 0f));
+
+		// same positions but different vertices, such as the edge of a flat shaded neighbour
+		MeshVertex otherA = vertex(0f, 0f, 0f);
+		MeshVertex otherB = vertex(1f, 0f, 0f);
+		assertNull(cache.find(otherA, otherB, new Vector3(0.5f, 0f, 0f)));
+		assertNull(cache.find(a, otherB, new Vector3(0.5f, 0f, 0f)));
+	}
+}
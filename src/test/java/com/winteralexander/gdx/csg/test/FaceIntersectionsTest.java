@@ -0,0 +1,115 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.csg.CSGMesh;
+import com.winteralexander.gdx.csg.FaceIntersections;
+import com.winteralexander.gdx.csg.FaceIntersections.Intersection;
+import com.winteralexander.gdx.csg.IntersectorPlus;
+import com.winteralexander.gdx.csg.IntersectorPlus.TriangleIntersectionResult;
+import com.winteralexander.gdx.csg.MeshFace;
+import com.winteralexander.gdx.csg.SegmentPlus;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static com.winteralexander.gdx.csg.test.TestMeshes.read;
+import static com.winteralexander.gdx.csg.IntersectorPlus.TriangleIntersectionResult.EDGE_FACE;
+import static com.winteralexander.gdx.csg.IntersectorPlus.TriangleIntersectionResult.NONCOPLANAR_FACE_FACE;
+import static com.winteralexander.gdx.csg.IntersectorPlus.TriangleIntersectionResult.NONE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link FaceIntersections}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class FaceIntersectionsTest {
+	@Test
+	public void testPairsMatchBruteForce() throws IOException {
+		CSGMesh first = read("minuend.csgmesh");
+		CSGMesh second = read("subtrahend.csgmesh");
+
+		FaceIntersections intersections = new FaceIntersections();
+		intersections.compute(first, second, 1e-5f);
+
+		Array<Array<Intersection>> firstIntersections = intersections.getFirstIntersections();
+		Array<Array<Intersection>> secondIntersections = intersections.getSecondIntersections();
+		assertEquals(first.getFaces().size, firstIntersections.size);
+		assertEquals(second.getFaces().size, secondIntersections.size);
+
+		SegmentPlus segment = new SegmentPlus();
+		int pairs = 0;
+		for(int i = 0; i < first.getFaces().size; i++) {
+			MeshFace face = first.getFaces().get(i);
+			for(int j = 0; j < second.getFaces().size; j++) {
+				MeshFace otherFace = second.getFaces().get(j);
+				TriangleIntersectionResult result = IntersectorPlus.intersectTriangleTriangle(
+						face.getTriangle(), otherFace.getTriangle(), 1e-5f, segment);
+
+				Intersection firstPair = find(firstIntersections.get(i), otherFace);
+				Intersection secondPair = find(secondIntersections.get(j), face);
+				if(result == NONE) {
+					assertNull(firstPair);
+					assertNull(secondPair);
+					continue;
+				}
+
+				// both faces share the result and segment of their intersection
+				assertNotNull(firstPair);
+				assertNotNull(secondPair);
+				assertEquals(result, firstPair.getResult());
+				assertEquals(result, secondPair.getResult());
+				assertSame(firstPair.getSegment(), secondPair.getSegment());
+				if(result == NONCOPLANAR_FACE_FACE || result == EDGE_FACE)
+					assertTrue(segment.epsilonEquals(firstPair.getSegment(), 0f));
+				pairs++;
+			}
+		}
+		assertTrue(pairs > 0);
+	}
+
+	@Test
+	public void testIntersectionIsSameBothWays() throws IOException {
+		CSGMesh first = read("minuend.csgmesh");
+		CSGMesh second = read("subtrahend.csgmesh");
+
+		FaceIntersections intersections = new FaceIntersections();
+		intersections.compute(first, second, 1e-5f);
+
+		// the intersections are tested with the face of the first mesh first, splitting the second
+		// mesh uses them as if its face came first
+		SegmentPlus segment = new SegmentPlus();
+		int pairs = 0;
+		for(int j = 0; j < second.getFaces().size; j++) {
+			Array<Intersection> list = intersections.getSecondIntersections().get(j);
+			if(list == null)
+				continue;
+
+			MeshFace face = second.getFaces().get(j);
+			for(Intersection intersection : list) {
+				TriangleIntersectionResult result = IntersectorPlus.intersectTriangleTriangle(
+						face.getTriangle(), intersection.getOtherFace().getTriangle(), 1e-5f, segment);
+				assertEquals(result, intersection.getResult());
+				if(result == NONCOPLANAR_FACE_FACE || result == EDGE_FACE)
+					assertTrue(segment.epsilonEquals(intersection.getSegment(), 1e-5f));
+				pairs++;
+			}
+		}
+		assertTrue(pairs > 0);
+	}
+
+	private static Intersection find(Array<Intersection> intersections, MeshFace otherFace) {
+		if(intersections == null)
+			return null;
+		for(Intersection intersection : intersections)
+			if(intersection.getOtherFace() == otherFace)
+				return intersection;
+		return null;
+	}
+}
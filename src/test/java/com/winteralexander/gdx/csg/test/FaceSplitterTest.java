@@ -0,0 +1,113 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.winteralexander.gdx.csg.CSGConfiguration;
+import com.winteralexander.gdx.csg.CSGMesh;
+import com.winteralexander.gdx.csg.CSGMeshGenerator;
+import com.winteralexander.gdx.csg.CSGUtil;
+import com.winteralexander.gdx.csg.FaceSplitter;
+import com.winteralexander.gdx.csg.MeshFace;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static com.winteralexander.gdx.csg.test.TestMeshes.vertex;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests splitting faces in parallel with {@link FaceSplitter}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class FaceSplitterTest {
+	private static final VertexAttributes POSITION_NORMAL = new VertexAttributes(VertexAttribute.Position(),
+			VertexAttribute.Normal());
+
+	@Test
+	public void testParallelSplitMatchesSequential() {
+		// enough faces to be split by multiple tasks
+		CSGMesh minuend = CSGMeshGenerator.box(new Vector3(), 1f, 1f, 1f, 8, POSITION_NORMAL);
+		CSGMesh subtrahend = CSGMeshGenerator.box(new Vector3(0.4f, 0.3f, 0.2f), 0.9f, 0.9f, 0.9f, 5,
+				POSITION_NORMAL);
+
+		CSGMesh expected = CSGUtil.subtraction(minuend, subtrahend, new CSGConfiguration());
+
+		for(int threads : new int[] { 1, 3, 8 }) {
+			ForkJoinPool pool = new ForkJoinPool(threads);
+			try {
+				CSGConfiguration config = new CSGConfiguration();
+				config.forkJoinPool = pool;
+				CSGMesh actual = CSGUtil.subtraction(minuend, subtrahend, config);
+
+				assertEquals(expected.getVertices().size, actual.getVertices().size);
+				assertEquals(expected.getFaces().size, actual.getFaces().size);
+				for(int i = 0; i < expected.getFaces().size; i++) {
+					MeshFace expectedFace = expected.getFaces().get(i);
+					MeshFace actualFace = actual.getFaces().get(i);
+					assertEquals(expectedFace.getPosition1(), actualFace.getPosition1());
+					assertEquals(expectedFace.getPosition2(), actualFace.getPosition2());
+					assertEquals(expectedFace.getPosition3(), actualFace.getPosition3());
+				}
+			} finally {
+				pool.shutdown();
+			}
+		}
+	}
+
+	@Test
+	public void testIntersectionAlongEdgeOnlyCutsRegions() {
+		MeshFace face = new MeshFace(vertex(0f, 0f, 0f), vertex(1f, 0f, 0f), vertex(0f, 1f, 0f));
+
+		// crosses the plane of the face exactly along its edge on the x axis
+		CSGMesh other = new CSGMesh();
+		other.getFaces().add(new MeshFace(vertex(-0.5f, 0f, -1f), vertex(1.5f, 0f, -1f), vertex(0.5f, 0f, 1f)));
+		BoundingBox otherBounds = new BoundingBox();
+		other.getBounds(otherBounds);
+
+		for(boolean regions : new boolean[] { false, true }) {
+			CSGConfiguration config = new CSGConfiguration();
+			config.enableRegionClassification = regions;
+			FaceSplitter splitter = new FaceSplitter(config, new MeshFace[] { face }, 0, 1,
+					other.getFaceTree(), otherBounds, null);
+			splitter.invoke();
+
+			// the face is not split, its edge only borders regions when classifying by region
+			assertEquals(1, splitter.getFragments().size);
+			assertEquals(regions ? 1 : 0, splitter.getCutEdges().size);
+		}
+	}
+
+	@Test
+	public void testSharedEdgeOnlyCutsRegions() {
+		MeshFace face = new MeshFace(vertex(0f, 0f, 0f), vertex(1f, 0f, 0f), vertex(0f, 1f, 0f));
+
+		// shares the edge on the x axis, standing up on it and lying next to it
+		MeshFace[] otherFaces = {
+				new MeshFace(vertex(1f, 0f, 0f), vertex(0f, 0f, 0f), vertex(0.5f, 0f, 1f)),
+				new MeshFace(vertex(1f, 0f, 0f), vertex(0f, 0f, 0f), vertex(0.5f, -1f, 0f))
+		};
+
+		for(MeshFace otherFace : otherFaces) {
+			CSGMesh other = new CSGMesh();
+			other.getFaces().add(otherFace);
+			BoundingBox otherBounds = new BoundingBox();
+			other.getBounds(otherBounds);
+
+			for(boolean regions : new boolean[] { false, true }) {
+				CSGConfiguration config = new CSGConfiguration();
+				config.enableRegionClassification = regions;
+				FaceSplitter splitter = new FaceSplitter(config, new MeshFace[] { face }, 0, 1,
+						other.getFaceTree(), otherBounds, null);
+				splitter.invoke();
+
+				assertEquals(1, splitter.getFragments().size);
+				assertEquals(regions ? 1 : 0, splitter.getCutEdges().size);
+			}
+		}
+	}
+}
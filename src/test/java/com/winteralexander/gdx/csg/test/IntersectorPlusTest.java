@@ -361,6 +361,19 @@ public class IntersectorPlusTest {
 		assertFalse(intersectCoplanarTriangles(tri1, tri2, 1e-5f));
 	}
 
+	@Test
+	public void testCoplanarSharedEdge() {
+		Triangle tri1 = new Triangle(0f, 0f, 0f, 2f, 0f, 0f, 0f, 2f, 0f);
+		Triangle tri2 = new Triangle(1f, 0f, 0f, 3f, 0f, 0f, 2f, -1f, 0f);
+		SegmentPlus segment = new SegmentPlus(), expected = new SegmentPlus();
+
+		// on both sides of the edge, the segment is the part of the edge they share
+		expected.a.set(1f, 0f, 0f);
+		expected.b.set(2f, 0f, 0f);
+		assertEquals(EDGE_EDGE, intersectTriangleTriangle(tri1, tri2, 1e-5f, segment));
+		assertTrue(expected.epsilonEquals(segment, 1e-5f));
+	}
+
 	@Test
 	public void testTriangleTriangle() throws InterruptedException {
 		Triangle tri1 = new Triangle(), tri2 = new Triangle();
@@ -546,4 +559,35 @@ public class IntersectorPlusTest {
 				new Ray(plane.getNormal().cpy().scl(-plane.getD()), plane.getNormal().cpy().crs(0f, 1f, 0f)),
 				new Ray(plane.getNormal().cpy().scl(-plane.getD()), plane.getNormal().cpy().crs(plane.getNormal().cpy().crs(0f, 1f, 0f))));
 	}
+
+	@Test
+	public void testSplitTriangleMatchesLibGDX() {
+		Random random = new Random(3);
+		float[] triangle = new float[9];
+		Plane plane = new Plane();
+		Intersector.SplitTriangle expected = new Intersector.SplitTriangle(3);
+		Intersector.SplitTriangle actual = new Intersector.SplitTriangle(3);
+
+		for(int i = 0; i < 1000; i++) {
+			for(int j = 0; j < 9; j++)
+				triangle[j] = random.nextFloat() * 2f - 1f;
+			plane.set(new Vector3(random.nextFloat() - 0.5f,
+					random.nextFloat() - 0.5f,
+					random.nextFloat() - 0.5f),
+					new Vector3(random.nextFloat() - 0.5f,
+							random.nextFloat() - 0.5f,
+							random.nextFloat() - 0.5f).nor());
+
+			Intersector.splitTriangle(triangle, plane, expected);
+			IntersectorPlus.splitTriangle(triangle, plane, actual);
+
+			assertEquals(expected.total, actual.total);
+			assertEquals(expected.numFront, actual.numFront);
+			assertEquals(expected.numBack, actual.numBack);
+			for(int j = 0; j < expected.numFront * 9; j++)
+				assertEquals(expected.front[j], actual.front[j], 1e-6f);
+			for(int j = 0; j < expected.numBack * 9; j++)
+				assertEquals(expected.back[j], actual.back[j], 1e-6f);
+		}
+	}
 }
@@ -0,0 +1,67 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.csg.CSGMesh;
+import com.winteralexander.gdx.csg.MeshFace;
+import com.winteralexander.gdx.csg.MeshTopology;
+import com.winteralexander.gdx.csg.MeshVertex;
+import org.junit.Test;
+
+import static com.winteralexander.gdx.csg.test.TestMeshes.vertex;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link MeshTopology}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class MeshTopologyTest {
+	@Test
+	public void testFacesAlongEdge() {
+		CSGMesh mesh = new CSGMesh();
+		MeshVertex a = vertex(mesh, 0f, 0f, 0f);
+		MeshVertex b = vertex(mesh, 1f, 0f, 0f);
+		MeshVertex c = vertex(mesh, 0f, 1f, 0f);
+		MeshVertex d = vertex(mesh, 0f, -1f, 0f);
+		MeshVertex e = vertex(mesh, 0f, 0f, 1f);
+
+		MeshFace first = new MeshFace(a, b, c);
+		MeshFace second = new MeshFace(b, a, d);
+		MeshFace third = new MeshFace(a, b, e);
+		mesh.getFaces().addAll(first, second, third);
+
+		MeshTopology topology = new MeshTopology();
+		topology.build(mesh);
+
+		assertFaces(topology, topology.getHalfEdge(third, 0), first, second, third);
+		assertFaces(topology, topology.getHalfEdge(first, 1), first);
+
+		topology.removeFace(second);
+		assertFalse(topology.contains(second));
+		assertFaces(topology, topology.getHalfEdge(first, 0), first, third);
+
+		// first no longer shares the edge between a and b but now shares the one between b and e
+		first.getVertices()[0] = e;
+		topology.updateFace(first);
+		assertTrue(topology.contains(first));
+		assertFaces(topology, topology.getHalfEdge(third, 0), third);
+		assertFaces(topology, topology.getHalfEdge(first, 0), third, first);
+	}
+
+	private static void assertFaces(MeshTopology topology, int halfEdge, MeshFace... expected) {
+		Array<MeshFace> actual = new Array<>();
+		for(int current = topology.getFirstAlongEdge(halfEdge);
+		    current != MeshTopology.NULL;
+		    current = topology.getNextAlongEdge(current))
+			actual.add(topology.getFace(current));
+
+		assertEquals(expected.length, actual.size);
+		for(int i = 0; i < expected.length; i++)
+			assertSame(expected[i], actual.get(i));
+	}
+}
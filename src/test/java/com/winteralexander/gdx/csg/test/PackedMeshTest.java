@@ -0,0 +1,60 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.winteralexander.gdx.csg.CSGMesh;
+import com.winteralexander.gdx.csg.MeshFace;
+import com.winteralexander.gdx.csg.MeshVertex;
+import com.winteralexander.gdx.csg.PackedMesh;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static com.winteralexander.gdx.csg.test.TestMeshes.read;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link PackedMesh} and {@link CSGMesh#pack()}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class PackedMeshTest {
+	@Test
+	public void testPackKeepsVerticesAndFaces() throws IOException {
+		CSGMesh mesh = read("minuend.csgmesh");
+
+		PackedMesh packed = mesh.pack();
+		VertexAttributes attributes = packed.getAttributes();
+		int vertexSize = attributes.vertexSize / 4;
+		VertexAttribute position = attributes.findByUsage(VertexAttributes.Usage.Position);
+
+		assertEquals(mesh.getVertices().size, packed.getNumVertices());
+		assertEquals(mesh.getFaces().size * 3, packed.getIndices().length);
+
+		for(int i = 0; i < mesh.getFaces().size; i++) {
+			MeshFace face = mesh.getFaces().get(i);
+			assertVertex(face.getV1(), packed, packed.getIndices()[i * 3], vertexSize, position);
+			assertVertex(face.getV2(), packed, packed.getIndices()[i * 3 + 1], vertexSize, position);
+			assertVertex(face.getV3(), packed, packed.getIndices()[i * 3 + 2], vertexSize, position);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidIndices() {
+		new PackedMesh(new float[3], new short[2],
+				new VertexAttributes(VertexAttribute.Position()));
+	}
+
+	private static void assertVertex(MeshVertex vertex,
+	                                 PackedMesh packed,
+	                                 int index,
+	                                 int vertexSize,
+	                                 VertexAttribute position) {
+		int offset = index * vertexSize + position.offset / 4;
+		assertEquals(vertex.getPosition().x, packed.getVertices()[offset], 0f);
+		assertEquals(vertex.getPosition().y, packed.getVertices()[offset + 1], 0f);
+		assertEquals(vertex.getPosition().z, packed.getVertices()[offset + 2], 0f);
+	}
+}
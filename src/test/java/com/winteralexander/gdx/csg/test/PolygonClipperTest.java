@@ -0,0 +1,105 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.badlogic.gdx.math.Plane;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.FloatArray;
+import com.winteralexander.gdx.csg.PolygonClipper;
+import com.winteralexander.gdx.csg.Triangle;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link PolygonClipper}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class PolygonClipperTest {
+	private static final Vector3 UP = new Vector3(0f, 0f, 1f);
+
+	@Test
+	public void testOnlyCrossedRegionsAreSplit() {
+		PolygonClipper clipper = new PolygonClipper(1e-5f);
+		clipper.set(new Vector3(0f, 0f, 0f), new Vector3(4f, 0f, 0f), new Vector3(0f, 4f, 0f), UP);
+
+		// splits the triangle in a triangle and a quad
+		assertEquals(1, clipper.clip(new Plane(new Vector3(1f, 0f, 0f), -1f),
+				new Vector3(1f, 0f, 0f), new Vector3(1f, 3f, 0f)));
+		assertEquals(2, clipper.getRegionCount());
+
+		// the plane goes through both regions but the segment only through the quad
+		assertEquals(1, clipper.clip(new Plane(new Vector3(0f, 1f, 0f), -1f),
+				new Vector3(1.5f, 1f, 0f), new Vector3(3f, 1f, 0f)));
+		assertEquals(3, clipper.getRegionCount());
+
+		// a segment ending on an earlier cut does not split the region on the other side of it
+		assertEquals(1, clipper.clip(new Plane(new Vector3(0f, 1f, 0f), -0.5f),
+				new Vector3(0f, 0.5f, 0f), new Vector3(1f, 0.5f, 0f)));
+		assertEquals(4, clipper.getRegionCount());
+	}
+
+	@Test
+	public void testTriangulationIsConforming() {
+		PolygonClipper clipper = new PolygonClipper(1e-5f);
+		clipper.set(new Vector3(0f, 0f, 0f), new Vector3(4f, 0f, 0f), new Vector3(0f, 4f, 0f), UP);
+		clipper.clip(new Plane(new Vector3(1f, 0f, 0f), -1f),
+				new Vector3(1f, 0f, 0f), new Vector3(1f, 3f, 0f));
+		clipper.clip(new Plane(new Vector3(0f, 1f, 0f), -1f),
+				new Vector3(1.5f, 1f, 0f), new Vector3(3f, 1f, 0f));
+
+		// both cuts end on the first one, only splitting the region on one side of it
+		clipper.clip(new Plane(new Vector3(0f, 1f, 0f), -0.5f),
+				new Vector3(0f, 0.5f, 0f), new Vector3(1f, 0.5f, 0f));
+
+		FloatArray triangles = new FloatArray();
+		for(int i = 0; i < clipper.getRegionCount(); i++)
+			clipper.triangulate(i, triangles);
+
+		// no vertex lies inside the edge of a triangle
+		Triangle triangle = new Triangle();
+		Vector3 vertex = new Vector3();
+		for(int i = 0; i < triangles.size; i += 9) {
+			triangle.set(triangles.items, i);
+			Vector3[] corners = { triangle.p1, triangle.p2, triangle.p3 };
+			for(int j = 0; j < 3; j++) {
+				Vector3 start = corners[j];
+				Vector3 end = corners[(j + 1) % 3];
+				for(int k = 0; k < triangles.size; k += 3) {
+					vertex.set(triangles.items[k], triangles.items[k + 1], triangles.items[k + 2]);
+					float along = vertex.dst(start) + vertex.dst(end) - start.dst(end);
+					boolean inside = vertex.dst(start) > 1e-4f && vertex.dst(end) > 1e-4f;
+					assertTrue("T-junction at " + vertex, !inside || along > 1e-4f);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testTriangulationCoversRegions() {
+		PolygonClipper clipper = new PolygonClipper(1e-5f);
+		clipper.set(new Vector3(0f, 0f, 0f), new Vector3(4f, 0f, 0f), new Vector3(0f, 4f, 0f), UP);
+		clipper.clip(new Plane(new Vector3(1f, 0f, 0f), -1f),
+				new Vector3(1f, 0f, 0f), new Vector3(1f, 3f, 0f));
+		clipper.clip(new Plane(new Vector3(0f, 1f, 0f), -1f),
+				new Vector3(0f, 1f, 0f), new Vector3(3f, 1f, 0f));
+
+		FloatArray triangles = new FloatArray();
+		for(int i = 0; i < clipper.getRegionCount(); i++)
+			clipper.triangulate(i, triangles);
+
+		Triangle triangle = new Triangle();
+		float area = 0f;
+		for(int i = 0; i < triangles.size; i += 9) {
+			triangle.set(triangles.items, i);
+			Vector3 cross = triangle.p2.cpy().sub(triangle.p1).crs(triangle.p3.cpy().sub(triangle.p1));
+
+			// same winding as the clipped triangle, and not degenerate
+			assertTrue(cross.z > 1e-3f);
+			area += cross.len() / 2f;
+		}
+		assertEquals(8f, area, 1e-4f);
+	}
+}
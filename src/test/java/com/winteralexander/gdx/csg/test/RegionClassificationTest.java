@@ -0,0 +1,77 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.math.Vector3;
+import com.winteralexander.gdx.csg.CSGConfiguration;
+import com.winteralexander.gdx.csg.CSGMesh;
+import com.winteralexander.gdx.csg.CSGMeshGenerator;
+import com.winteralexander.gdx.csg.CSGUtil;
+import com.winteralexander.gdx.csg.MeshFace;
+import com.winteralexander.gdx.csg.MeshVertex;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static com.winteralexander.gdx.csg.test.TestMeshes.read;
+import static com.winteralexander.gdx.csg.test.TestMeshes.vertex;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests classifying faces by region gives the same results as classifying every vertex
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class RegionClassificationTest {
+	@Test
+	public void testRegionsMatchPerVertexClassification() throws IOException {
+		CSGMesh minuend = read("minuend.csgmesh");
+		CSGMesh subtrahend = read("subtrahend.csgmesh");
+
+		CSGConfiguration perVertex = new CSGConfiguration();
+		CSGConfiguration regions = new CSGConfiguration();
+		regions.enableRegionClassification = true;
+
+		assertSameFaces(CSGUtil.subtraction(minuend, subtrahend, perVertex),
+				CSGUtil.subtraction(minuend, subtrahend, regions));
+		assertSameFaces(CSGUtil.union(minuend, subtrahend, perVertex),
+				CSGUtil.union(minuend, subtrahend, regions));
+		assertSameFaces(CSGUtil.intersection(minuend, subtrahend, perVertex),
+				CSGUtil.intersection(minuend, subtrahend, regions));
+	}
+
+	@Test
+	public void testRegionOnBoundaryIsClassifiedByItsVertices() {
+		// both sides of a triangle, the corner of the box touches them at their shared center
+		CSGMesh triangle = new CSGMesh();
+		MeshVertex a = vertex(triangle, 0f, 0f, 0f);
+		MeshVertex b = vertex(triangle, 3f, 0f, 0f);
+		MeshVertex c = vertex(triangle, 0f, 3f, 0f);
+		triangle.getFaces().add(new MeshFace(a, b, c));
+		triangle.getFaces().add(new MeshFace(a, c, b));
+
+		CSGMesh box = CSGMeshGenerator.box(new Vector3(1.5f, 1.5f, -0.5f), 1f, 1f, 1f, 1,
+				new VertexAttributes(VertexAttribute.Position(), VertexAttribute.Normal()));
+
+		CSGConfiguration regions = new CSGConfiguration();
+		regions.enableRegionClassification = true;
+		triangle.setConfig(regions);
+		triangle.classifyFaces(box);
+
+		for(MeshFace face : triangle.getFaces())
+			assertEquals(CSGMesh.InsideStatus.OUTSIDE, triangle.getInsideStatus(face));
+	}
+
+	private static void assertSameFaces(CSGMesh expected, CSGMesh actual) {
+		assertEquals(expected.getFaces().size, actual.getFaces().size);
+		for(int i = 0; i < expected.getFaces().size; i++) {
+			MeshFace expectedFace = expected.getFaces().get(i);
+			MeshFace actualFace = actual.getFaces().get(i);
+			assertEquals(expectedFace.getPosition1(), actualFace.getPosition1());
+			assertEquals(expectedFace.getPosition2(), actualFace.getPosition2());
+			assertEquals(expectedFace.getPosition3(), actualFace.getPosition3());
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.badlogic.gdx.math.Vector3;
+import com.winteralexander.gdx.csg.CSGMesh;
+import com.winteralexander.gdx.csg.MeshVertex;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Meshes and vertices used by multiple unit tests
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class TestMeshes {
+	private TestMeshes() {}
+
+	/**
+	 * Reads a mesh serialized in a resource of the tests
+	 *
+	 * @param resource name of the resource
+	 * @return mesh read from the resource
+	 */
+	public static CSGMesh read(String resource) throws IOException {
+		CSGMesh mesh = new CSGMesh();
+		try(InputStream stream = TestMeshes.class.getClassLoader().getResourceAsStream(resource)) {
+			if(stream == null)
+				throw new FileNotFoundException("Missing test resource " + resource);
+			mesh.readFrom(stream);
+		}
+		return mesh;
+	}
+
+	/**
+	 * Creates a vertex at the given position, with zero normal and tangent and no other
+	 * attributes
+	 */
+	public static MeshVertex vertex(float x, float y, float z) {
+		return new MeshVertex(new Vector3(x, y, z), new Vector3(), new Vector3(), new float[0]);
+	}
+
+	/**
+	 * Creates a vertex at the given position facing +Z and adds it to the vertices of the mesh
+	 */
+	public static MeshVertex vertex(CSGMesh mesh, float x, float y, float z) {
+		MeshVertex vertex = vertex(x, y, z);
+		vertex.getNormal().set(0f, 0f, 1f);
+		mesh.getVertices().add(vertex);
+		return vertex;
+	}
+}
@@ -1,12 +1,16 @@
 package com.winteralexander.gdx.csg.test;
 
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.winteralexander.gdx.csg.MeshFace;
+import com.winteralexander.gdx.csg.MeshVertex;
 import com.winteralexander.gdx.csg.Triangle;
 import org.junit.Test;
 
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -78,4 +82,39 @@ public class TriangleTest {
 			assertTrue(expected.epsilonEquals(triangle.getBarycentricCoordinates(point), 1e-5f));
 		}
 	}
+
+	@Test
+	public void testNormalFollowsPoints() {
+		Triangle triangle = new Triangle(0f, 0f, 0f, 1f, 0f, 0f, 0f, 1f, 0f);
+		Vector3 normal = triangle.getNormal().cpy();
+
+		triangle.p3.set(0f, 0f, 1f);
+		assertFalse(normal.epsilonEquals(triangle.getNormal(), 1e-5f));
+		assertTrue(new Triangle(triangle).getNormal().epsilonEquals(triangle.getNormal(), 0f));
+	}
+
+	@Test
+	public void testFacePlaneFollowsVertices() {
+		MeshVertex v1 = new MeshVertex(new Vector3(0f, 0f, 0f), new Vector3(), new Vector3(), new float[0]);
+		MeshVertex v2 = new MeshVertex(new Vector3(1f, 0f, 0f), new Vector3(), new Vector3(), new float[0]);
+		MeshVertex v3 = new MeshVertex(new Vector3(0f, 1f, 0f), new Vector3(), new Vector3(), new float[0]);
+		MeshFace face = new MeshFace(v1, v2, v3);
+
+		Vector3 before = face.getNormal().cpy();
+		assertEquals(0f, face.getPlaneOffset(), 0f);
+
+		v1.getPosition().z = 2f;
+		v2.getPosition().z = 2f;
+		v3.getPosition().z = 2f;
+		assertTrue(before.epsilonEquals(face.getNormal(), 1e-6f));
+		assertEquals(-2f * face.getNormal().z, face.getPlaneOffset(), 1e-6f);
+
+		BoundingBox bounds = face.getBounds(new BoundingBox());
+		assertEquals(2f, bounds.min.z, 0f);
+		assertEquals(1f, bounds.max.x, 0f);
+
+		face.getVertices()[2] = new MeshVertex(new Vector3(0f, 0f, 3f), new Vector3(), new Vector3(), new float[0]);
+		assertTrue(face.getTriangle(new Triangle()).getNormal().epsilonEquals(
+				new Triangle(face.getPosition1(), face.getPosition2(), face.getPosition3()).getNormal(), 0f));
+	}
 }
@@ -0,0 +1,55 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.winteralexander.gdx.csg.CSGMesh;
+import com.winteralexander.gdx.csg.CSGMesh.InsideStatus;
+import com.winteralexander.gdx.csg.MeshVertex;
+import com.winteralexander.gdx.csg.VertexClassifier;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.winteralexander.gdx.csg.test.TestMeshes.read;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link VertexClassifier}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class VertexClassifierTest {
+	@Test
+	public void testParallelClassificationMatchesSequential() throws IOException {
+		CSGMesh mesh = read("minuend.csgmesh");
+		CSGMesh other = read("subtrahend.csgmesh");
+
+		MeshVertex[] vertices = mesh.getVertices().toArray(MeshVertex.class);
+		byte[] status = new byte[vertices.length];
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			VertexClassifier first = new VertexClassifier(vertices, 0, vertices.length / 2, other, status);
+			VertexClassifier second = new VertexClassifier(vertices, vertices.length / 2,
+					vertices.length, other, status);
+			pool.execute(first);
+			pool.execute(second);
+			first.join();
+			second.join();
+		} finally {
+			pool.shutdown();
+		}
+
+		for(int i = 0; i < vertices.length; i++)
+			assertEquals(other.computeInsideStatus(vertices[i].getPosition()),
+					InsideStatus.fromCode(status[i]));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidRange() throws IOException {
+		CSGMesh mesh = read("minuend.csgmesh");
+		MeshVertex[] vertices = mesh.getVertices().toArray(MeshVertex.class);
+		new VertexClassifier(vertices, 0, vertices.length + 1, mesh, new byte[vertices.length]);
+	}
+}
@@ -0,0 +1,58 @@
+package com.winteralexander.gdx.csg.test;
+
+import com.badlogic.gdx.math.Vector3;
+import com.winteralexander.gdx.csg.MeshFace;
+import com.winteralexander.gdx.csg.MeshVertex;
+import com.winteralexander.gdx.csg.VertexHash;
+import org.junit.Test;
+
+import static com.winteralexander.gdx.csg.test.TestMeshes.vertex;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests for {@link VertexHash}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class VertexHashTest {
+	@Test
+	public void testFindAcrossCells() {
+		VertexHash hash = new VertexHash(1e-3f);
+		MeshFace face = face(0f, 0f, 0f);
+		MeshVertex vertex = vertex(0.0099f, 0.5f, -0.2f);
+		hash.add(vertex, face);
+
+		// on the other side of a cell boundary, within tolerance
+		assertSame(vertex, hash.find(new Vector3(0.0101f, 0.5f, -0.2f), face.getNormal()));
+		assertNull(hash.find(new Vector3(0.0121f, 0.5f, -0.2f), face.getNormal()));
+	}
+
+	@Test
+	public void testNormalMustMatch() {
+		VertexHash hash = new VertexHash(1e-3f);
+		MeshFace face = face(0f, 0f, 0f);
+		MeshVertex vertex = vertex(1f, 1f, 1f);
+		hash.add(vertex, face);
+
+		assertNull(hash.find(new Vector3(1f, 1f, 1f), new Vector3(0f, 1f, 0f)));
+	}
+
+	@Test
+	public void testFirstAddedIsFound() {
+		VertexHash hash = new VertexHash(1e-3f);
+		MeshFace face = face(0f, 0f, 0f);
+		MeshVertex first = vertex(2f, 2f, 2f);
+		MeshVertex second = vertex(2.0005f, 2f, 2f);
+		hash.add(first, face);
+		hash.add(second, face);
+
+		assertSame(first, hash.find(new Vector3(2.0002f, 2f, 2f), face.getNormal()));
+	}
+
+	private static MeshFace face(float x, float y, float z) {
+		return new MeshFace(vertex(x, y, z), vertex(x + 1f, y, z), vertex(x, y + 1f, z));
+	}
+}
@@ -116,7 +116,7 @@ public class CSGMeshViewer implements ApplicationListener {
 				i++;
 				r.set(ShapeRenderer.ShapeType.Line);
 				for(MeshFace face : mesh.getFaces()) {
-					boolean boundaryFace = mesh.getBoundaryFaces().contains(face);
+					boolean boundaryFace = mesh.isBoundaryFace(face);
 					CSGMesh.InsideStatus status1 = mesh.getInsideStatus(face.getV1());
 					CSGMesh.InsideStatus status2 = mesh.getInsideStatus(face.getV2());
 					CSGMesh.InsideStatus status3 = mesh.getInsideStatus(face.getV3());